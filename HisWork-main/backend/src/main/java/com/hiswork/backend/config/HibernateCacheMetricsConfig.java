@@ -0,0 +1,59 @@
+package com.hiswork.backend.config;
+
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.TemplateVersion;
+import com.hiswork.backend.domain.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 2차 캐시/조회 캐시 적중률 메트릭 (hibernate.cache.hit.ratio)
+ * 요청/적중/실패 횟수는 hibernate-micrometer가 hibernate.* 메트릭으로 노출
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HibernateCacheMetricsConfig {
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            Template.class.getName(), TemplateVersion.class.getName(), User.class.getName());
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void registerHitRatios() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Gauge.builder("hibernate.cache.hit.ratio", statistics,
+                        stats -> ratio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount()))
+                .tag("cache", "second-level")
+                .register(meterRegistry);
+        Gauge.builder("hibernate.cache.hit.ratio", statistics,
+                        stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+                .tag("cache", "query")
+                .register(meterRegistry);
+
+        for (String region : ENTITY_REGIONS) {
+            Gauge.builder("hibernate.cache.region.hit.ratio", statistics, stats -> {
+                        CacheRegionStatistics regionStats = stats.getDomainDataRegionStatistics(region);
+                        return regionStats != null ? ratio(regionStats.getHitCount(), regionStats.getMissCount()) : Double.NaN;
+                    })
+                    .tag("region", region)
+                    .register(meterRegistry);
+        }
+    }
+
+    private double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : Double.NaN;
+    }
+}
@@ -0,0 +1,63 @@
+package com.hiswork.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 쓰기 직후 읽기 일관성 (read-your-writes)
+ * - 변경 요청(POST/PUT/PATCH/DELETE)은 요청 전체를 주 DB로 고정
+ * - 변경 요청 응답에 주 DB 고정 만료 시각을 헤더로 내려주고, 클라이언트가 이후 요청에 그대로 보내면 만료 전까지 읽기도 주 DB
+ * 고정 상태는 클라이언트가 들고 다니므로 어느 노드로 요청이 가도 같게 동작 (노드에는 세션별 상태를 두지 않음)
+ * 값을 조작해도 주 DB로 읽게 될 뿐이며, 현재 시각 + 고정 시간보다 먼 값은 무시
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String PIN_HEADER = "X-Read-Your-Writes-Until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final long pinWindowMs;
+
+    public ReadYourWritesFilter(long pinWindowMs) {
+        this.pinWindowMs = pinWindowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean mutating = !SAFE_METHODS.contains(request.getMethod());
+
+        if (mutating || pinned(request)) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        if (mutating) {
+            // 스트리밍 응답은 본문을 쓰기 시작하면 헤더를 바꿀 수 없으므로 처리 전에 설정
+            response.setHeader(PIN_HEADER, String.valueOf(System.currentTimeMillis() + pinWindowMs));
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearPin();
+        }
+    }
+
+    private boolean pinned(HttpServletRequest request) {
+        String header = request.getHeader(PIN_HEADER);
+        if (header == null) {
+            return false;
+        }
+        try {
+            long until = Long.parseLong(header.trim());
+            long now = System.currentTimeMillis();
+            return until > now && until <= now + pinWindowMs;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.hiswork.backend.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * 복제본으로 라우팅되는 읽기 전용 세션은 2차/조회 캐시를 읽기만 함 (CacheMode.GET)
+ * 캐시 무효화 직후 아직 반영되지 않은 복제본 데이터가 캐시에 다시 채워져 만료 시점까지 남는 것을 방지
+ * 캐시 적재는 주 DB에서 읽는 세션이 담당
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    private final Supplier<ReplicaLagMonitor> replicaLagMonitor;
+
+    public ReplicaCacheModeJpaDialect(Supplier<ReplicaLagMonitor> replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        // 커넥션은 첫 SQL에서 얻지만 라우팅 조건은 트랜잭션 시작 시점과 같음 (지연 감시 결과만 그 사이 바뀔 수 있음)
+        if (ReplicaRoutingDataSource.routesToReplica(definition.isReadOnly(), replicaLagMonitor.get())) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return transactionData;
+    }
+}
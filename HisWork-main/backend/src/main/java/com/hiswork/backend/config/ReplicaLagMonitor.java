@@ -0,0 +1,80 @@
+package com.hiswork.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제본 지연 감시
+ * - 주기적으로 복제본의 재생 지연을 조회하고, 허용 범위를 넘거나 조회에 실패하면 읽기를 주 DB로 되돌림
+ * - WAL 수신이 끊긴 복제본은 받은 WAL을 모두 재생했더라도 지연을 알 수 없으므로 사용하지 않음
+ *   (pg_stat_wal_receiver.status 조회에 pg_read_all_stats 또는 pg_monitor 권한 필요)
+ * - 첫 확인 전에는 복제본을 사용하지 않음
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // 복구(스탠바이) 모드가 아니거나 받은 WAL을 모두 재생했으면 지연 없음 - 단, 스탠바이는 WAL 수신 중일 때만 유효
+    private static final String LAG_SQL =
+            "SELECT pg_is_in_recovery() AS in_recovery, " +
+            "(SELECT status FROM pg_stat_wal_receiver LIMIT 1) AS receiver_status, " +
+            "CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) " +
+            "END AS lag_ms";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+
+    private volatile boolean replicaUsable;
+    private volatile double lagMs = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMs, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean usable;
+        try {
+            usable = Boolean.TRUE.equals(replicaJdbcTemplate.queryForObject(LAG_SQL, (rs, rowNum) -> {
+                if (rs.getBoolean("in_recovery") && !"streaming".equals(rs.getString("receiver_status"))) {
+                    // 수신이 끊기면 재생할 WAL이 없어 지연이 0으로 보이므로 지연을 알 수 없음으로 처리
+                    lagMs = Double.NaN;
+                    if (replicaUsable) {
+                        log.warn("복제본 WAL 수신 중단 (상태: {}) - 주 DB로 읽기 전환", rs.getString("receiver_status"));
+                    }
+                    return false;
+                }
+                lagMs = rs.getDouble("lag_ms");
+                return lagMs <= maxLagMs;
+            }));
+        } catch (Exception e) {
+            lagMs = Double.NaN;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("복제본 지연 조회 실패 - 주 DB로 읽기 전환: {}", e.getMessage());
+            }
+        }
+
+        if (usable != replicaUsable) {
+            log.info("복제본 읽기 {} - 지연: {}ms (허용: {}ms)", usable ? "사용" : "중단", lagMs, maxLagMs);
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hiswork.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource
+ * - readOnly 트랜잭션 + 복제 지연 허용 범위 + 현재 요청이 주 DB에 고정되지 않은 경우에만 복제본 사용
+ * - 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 복제본 세션은 캐시를 채우지 않음 (ReplicaCacheModeJpaDialect)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    /**
+     * 현재 스레드의 읽기를 주 DB로 고정 (쓰기 직후 자신의 변경을 읽어야 하는 요청)
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clearPin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * 현재 스레드의 트랜잭션이 복제본을 사용하는지 여부 (ReplicaCacheModeJpaDialect에서도 사용)
+     */
+    static boolean routesToReplica(boolean readOnly, ReplicaLagMonitor replicaLagMonitor) {
+        return readOnly && PINNED_TO_PRIMARY.get() == null && replicaLagMonitor.isReplicaUsable();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return routesToReplica(TransactionSynchronizationManager.isCurrentTransactionReadOnly(), replicaLagMonitor)
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
@@ -41,6 +41,7 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()  // 인증 관련 엔드포인트 허용
+                .requestMatchers(SignedUrlFilter::isSignedRequest).permitAll()  // 서명 URL은 SignedUrlFilter에서 검증
                 .requestMatchers("/api/templates").hasRole("USER")
                 .anyRequest().authenticated()
             )
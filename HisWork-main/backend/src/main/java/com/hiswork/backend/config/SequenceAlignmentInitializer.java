@@ -0,0 +1,47 @@
+package com.hiswork.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY에서 시퀀스 기반 ID로 전환한 테이블의 시퀀스를 기존 최대 ID 이후로 맞춤
+ * 스키마 갱신(ddl-auto) 이후, 웹 요청을 받기 전에 실행되도록 entityManagerFactory 이후 초기화
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceAlignmentInitializer implements InitializingBean {
+
+    // 테이블 -> 시퀀스
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "documents", "documents_seq",
+            "documents_role", "documents_role_seq",
+            "tasks_log", "tasks_log_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                // pooled 할당은 시퀀스 값을 블록의 상한으로 사용하므로 최대 ID 이상이면 충돌하지 않음 (값은 줄이지 않음)
+                Long value = jdbcTemplate.queryForObject(
+                        "SELECT setval('" + sequence + "', GREATEST(" +
+                        "(SELECT COALESCE(MAX(id), 0) FROM " + table + "), " +
+                        "(SELECT last_value FROM " + sequence + "), 1))",
+                        Long.class);
+                log.info("시퀀스 정렬 - {}: {}", sequence, value);
+            } catch (Exception e) {
+                log.warn("시퀀스 정렬 실패 - {}: {}", sequence, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.hiswork.backend.config;
+
+import com.hiswork.backend.util.SignedUrlUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * 서명 URL 검증 필터
+ * - 서명 파라미터가 있는 파일/PDF 다운로드/서명 이미지 요청만 검사
+ * - 검증에 성공하면 요청 속성에 표시하여 컨트롤러가 JWT 파싱과 사용자 조회를 건너뛰도록 함
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class SignedUrlFilter extends OncePerRequestFilter {
+
+    public static final String VERIFIED_ATTRIBUTE = SignedUrlFilter.class.getName() + ".VERIFIED";
+
+    private static final Pattern DOCUMENT_DOWNLOAD_PATH = Pattern.compile("^/api/documents/\\d+/download-pdf$");
+    private static final Pattern SIGNATURE_IMAGE_PATH = Pattern.compile("^/api/signatures/\\d+$");
+    private static final String FILES_PATH_PREFIX = "/api/files/";
+
+    private final SignedUrlUtil signedUrlUtil;
+
+    public static boolean isVerified(HttpServletRequest request) {
+        return Boolean.TRUE.equals(request.getAttribute(VERIFIED_ATTRIBUTE));
+    }
+
+    /**
+     * 서명 파라미터가 붙은 서명 대상 경로 요청인지 확인 (SecurityConfig에서도 사용)
+     */
+    public static boolean isSignedRequest(HttpServletRequest request) {
+        return request.getParameter(SignedUrlUtil.SIGNATURE_PARAM) != null && isSignablePath(request.getRequestURI());
+    }
+
+    private static boolean isSignablePath(String path) {
+        return path.startsWith(FILES_PATH_PREFIX)
+                || DOCUMENT_DOWNLOAD_PATH.matcher(path).matches()
+                || SIGNATURE_IMAGE_PATH.matcher(path).matches();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !isSignedRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI();
+        String expires = request.getParameter(SignedUrlUtil.EXPIRES_PARAM);
+        String signature = request.getParameter(SignedUrlUtil.SIGNATURE_PARAM);
+
+        if (!signedUrlUtil.verify(path, expires, signature)) {
+            log.warn("서명 URL 검증 실패: {}", path);
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"유효하지 않거나 만료된 URL입니다.\"}");
+            return;
+        }
+
+        request.setAttribute(VERIFIED_ATTRIBUTE, Boolean.TRUE);
+
+        // 템플릿 파일은 만료 시점까지 CDN/리버스 프록시 캐시 허용, 문서 PDF와 서명 이미지는 브라우저에만 캐시
+        String visibility = path.startsWith(FILES_PATH_PREFIX) ? "public" : "private";
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                visibility + ", max-age=" + signedUrlUtil.secondsUntilExpiry(expires));
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hiswork.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * templates.coordinate_fields 스키마 정리 (ddl-auto는 컬럼 타입을 바꾸지 않으므로 시작 시 처리)
+ * - TEXT 컬럼이면 jsonb로 변환 (JSON이 아닌 기존 값은 버리지 않고 JSON 문자열로 보존, 빈 값은 NULL)
+ * - field_count가 비어 있는 행의 필드 수 계산
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class TemplateCoordinateFieldsInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            String dataType = jdbcTemplate.queryForObject(
+                    "SELECT data_type FROM information_schema.columns " +
+                    "WHERE table_schema = current_schema() AND table_name = 'templates' AND column_name = 'coordinate_fields'",
+                    String.class);
+            if ("text".equals(dataType)) {
+                transactionTemplate.executeWithoutResult(status -> convertToJsonb());
+            }
+        } catch (Exception e) {
+            log.warn("템플릿 좌표 필드 jsonb 변환 실패: {}", e.getMessage());
+        }
+
+        try {
+            int updated = jdbcTemplate.update(
+                    "UPDATE templates SET field_count = CASE " +
+                    "WHEN coordinate_fields IS NULL THEN 0 " +
+                    "WHEN jsonb_typeof(coordinate_fields) = 'array' THEN jsonb_array_length(coordinate_fields) END " +
+                    "WHERE field_count IS NULL");
+            if (updated > 0) {
+                log.info("템플릿 필드 수 계산 - {}건", updated);
+            }
+        } catch (Exception e) {
+            log.warn("템플릿 필드 수 계산 실패: {}", e.getMessage());
+        }
+    }
+
+    private void convertToJsonb() {
+        List<Long> invalidIds = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, coordinate_fields FROM templates " +
+                "WHERE coordinate_fields IS NOT NULL AND btrim(coordinate_fields) <> ''", rs -> {
+            try {
+                objectMapper.readTree(rs.getString("coordinate_fields"));
+            } catch (Exception e) {
+                invalidIds.add(rs.getLong("id"));
+            }
+        });
+
+        for (Long id : invalidIds) {
+            jdbcTemplate.update("UPDATE templates SET coordinate_fields = to_jsonb(coordinate_fields)::text WHERE id = ?", id);
+            log.warn("JSON이 아닌 템플릿 좌표 필드를 문자열로 보존 - 템플릿 ID: {}", id);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE templates ALTER COLUMN coordinate_fields TYPE jsonb " +
+                "USING NULLIF(btrim(coordinate_fields), '')::jsonb");
+        log.info("템플릿 좌표 필드 jsonb 변환 완료 (JSON 아님: {}건)", invalidIds.size());
+    }
+}
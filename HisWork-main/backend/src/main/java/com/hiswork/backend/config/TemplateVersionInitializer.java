@@ -0,0 +1,56 @@
+package com.hiswork.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 버전 도입 이전 데이터 정리 (처리할 행이 없으면 조건 조회만 수행)
+ * - 현재 버전이 없는 템플릿은 현재 내용으로 버전 1 생성
+ * - 템플릿 버전이 없는 문서는 해당 템플릿의 현재 버전으로 고정
+ * 좌표 필드가 jsonb로 변환된 뒤 실행되어야 하므로 TemplateCoordinateFieldsInitializer 이후 초기화
+ */
+@Component
+@DependsOn({"entityManagerFactory", "templateCoordinateFieldsInitializer"})
+@RequiredArgsConstructor
+@Slf4j
+public class TemplateVersionInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int versions = jdbcTemplate.update(
+                        "INSERT INTO template_versions (template_id, version_number, name, description, pdf_file_path, " +
+                        "pdf_image_path, coordinate_fields, fields_schema_version, field_count, created_by, created_at) " +
+                        "SELECT t.id, COALESCE((SELECT MAX(v.version_number) FROM template_versions v WHERE v.template_id = t.id), 0) + 1, " +
+                        "t.name, t.description, t.pdf_file_path, t.pdf_image_path, t.coordinate_fields, " +
+                        "t.fields_schema_version, t.field_count, t.created_by, COALESCE(t.updated_at, t.created_at, now()) " +
+                        "FROM templates t WHERE t.current_version_id IS NULL");
+                if (versions > 0) {
+                    jdbcTemplate.update(
+                            "UPDATE templates t SET current_version_id = v.id FROM template_versions v " +
+                            "WHERE t.current_version_id IS NULL AND v.template_id = t.id AND v.version_number = " +
+                            "(SELECT MAX(latest.version_number) FROM template_versions latest WHERE latest.template_id = t.id)");
+                    log.info("템플릿 버전 생성 - {}건", versions);
+                }
+
+                int documents = jdbcTemplate.update(
+                        "UPDATE documents d SET template_version_id = t.current_version_id FROM templates t " +
+                        "WHERE d.template_version_id IS NULL AND d.template_id = t.id AND t.current_version_id IS NOT NULL");
+                if (documents > 0) {
+                    log.info("문서 템플릿 버전 지정 - {}건", documents);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("템플릿 버전 초기화 실패: {}", e.getMessage());
+        }
+    }
+}
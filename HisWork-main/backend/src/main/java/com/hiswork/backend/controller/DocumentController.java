@@ -1,26 +1,58 @@
 package com.hiswork.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiswork.backend.config.ReadYourWritesFilter;
+import com.hiswork.backend.config.SignedUrlFilter;
 import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.TemplateVersion;
 import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.BatchTransitionResult;
+import com.hiswork.backend.dto.BulkAssignmentResult;
+import com.hiswork.backend.dto.DocumentBatchActionRequest;
+import com.hiswork.backend.dto.DocumentBulkCreateRequest;
 import com.hiswork.backend.dto.DocumentCreateRequest;
+import com.hiswork.backend.dto.DocumentFieldUpdateRequest;
+import com.hiswork.backend.dto.DocumentFieldUpdateResponse;
 import com.hiswork.backend.dto.DocumentHistoryResponse;
+import com.hiswork.backend.dto.DocumentPageResponse;
+import com.hiswork.backend.dto.DocumentRenderSnapshot;
 import com.hiswork.backend.dto.DocumentResponse;
+import com.hiswork.backend.dto.DocumentSearchCondition;
 import com.hiswork.backend.dto.DocumentUpdateRequest;
+import com.hiswork.backend.exception.DocumentPatchFailedException;
+import com.hiswork.backend.exception.DocumentVersionConflictException;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.PatchResult;
 import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.service.DocumentBulkAssignmentService;
+import com.hiswork.backend.service.DocumentFieldMergeService;
 import com.hiswork.backend.service.DocumentHistoryService;
+import com.hiswork.backend.service.DocumentPatchService;
 import com.hiswork.backend.service.DocumentService;
 import com.hiswork.backend.util.AuthUtil;
+import com.hiswork.backend.util.SignedUrlUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,15 +63,25 @@ import com.hiswork.backend.service.PdfService;
 @RestController
 @RequestMapping("/api/documents")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.ETAG, ReadYourWritesFilter.PIN_HEADER})
 public class DocumentController {
     
     private final DocumentService documentService;
     private final DocumentHistoryService documentHistoryService;
+    private final DocumentPatchService documentPatchService;
+    private final DocumentFieldMergeService documentFieldMergeService;
     private final UserRepository userRepository;
     private final AuthUtil authUtil;
     private final PasswordEncoder passwordEncoder;
     private final PdfService pdfService;
+    private final SignedUrlUtil signedUrlUtil;
+    private final DocumentBulkAssignmentService documentBulkAssignmentService;
+    private final ObjectMapper objectMapper;
+    
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
+    @Value("${app.pdf.optimize-downloads:true}")
+    private boolean optimizeDownloadsByDefault;
     
     @PostMapping
     public ResponseEntity<?> createDocument(
@@ -68,10 +110,74 @@ public class DocumentController {
         }
     }
     
+    /**
+     * 템플릿 하나를 여러 편집자에게 일괄 할당 - 편집자별 결과를 NDJSON으로 스트리밍
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createDocumentsBulk(
+            @Valid @RequestBody DocumentBulkCreateRequest request,
+            HttpServletRequest httpRequest) {
+        
+        try {
+            User creator = getCurrentUser(httpRequest);
+            TemplateVersion templateVersion = documentBulkAssignmentService.validate(request.getTemplateId(), request.getEditorEmails());
+            log.info("일괄 할당 요청 - 템플릿 ID: {} (버전 {}), 편집자: {}명, 요청자: {}",
+                    request.getTemplateId(), templateVersion.getVersionNumber(), request.getEditorEmails().size(), creator.getEmail());
+            
+            StreamingResponseBody body = out -> documentBulkAssignmentService.assign(
+                    templateVersion, creator, request.getEditorEmails(), results -> {
+                        try {
+                            for (BulkAssignmentResult result : results) {
+                                out.write(objectMapper.writeValueAsBytes(result));
+                                out.write('\n');
+                            }
+                            out.flush();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            
+            return ResponseEntity.ok()
+                    .contentType(NDJSON)
+                    .body(body);
+        } catch (Exception e) {
+            log.error("Error creating documents in bulk", e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     @GetMapping
-    public ResponseEntity<List<DocumentResponse>> getAllDocuments(HttpServletRequest httpRequest) {
+    public ResponseEntity<?> getAllDocuments(
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Document.DocumentStatus status,
+            @RequestParam(required = false) DocumentRole.TaskRole role,
+            @RequestParam(required = false) Long templateId,
+            HttpServletRequest httpRequest) {
         try {
             User currentUser = getCurrentUser(httpRequest);
+            
+            // 페이지/필터 파라미터가 있으면 키셋 페이지로 응답 (없으면 기존 전체 목록)
+            if (size != null || cursor != null || status != null || role != null || templateId != null) {
+                DocumentSearchCondition condition = DocumentSearchCondition.builder()
+                        .status(status)
+                        .role(role)
+                        .templateId(templateId)
+                        .build();
+                if (cursor != null) {
+                    Object[] decoded;
+                    try {
+                        decoded = DocumentPageResponse.decodeCursor(cursor);
+                    } catch (RuntimeException e) {
+                        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+                    }
+                    condition.setCursorCreatedAt((LocalDateTime) decoded[0]);
+                    condition.setCursorId((Long) decoded[1]);
+                }
+                return ResponseEntity.ok(documentService.getDocumentPage(currentUser, condition, size != null ? size : 20));
+            }
+            
             List<Document> documents = documentService.getDocumentsByUser(currentUser);
             List<DocumentResponse> responses = documents.stream()
                     .map(DocumentResponse::from)
@@ -89,7 +195,10 @@ public class DocumentController {
         try {
             Optional<Document> documentOpt = documentService.getDocumentById(id);
             if (documentOpt.isPresent()) {
-                return ResponseEntity.ok(DocumentResponse.from(documentOpt.get()));
+                Document document = documentOpt.get();
+                return ResponseEntity.ok()
+                        .eTag(versionTag(document.getVersion()))
+                        .body(DocumentResponse.from(document));
             } else {
                 return ResponseEntity.notFound().build();
             }
@@ -103,16 +212,21 @@ public class DocumentController {
     public ResponseEntity<?> updateDocument(
             @PathVariable Long id, 
             @Valid @RequestBody DocumentUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest httpRequest) {
         
         try {
             log.info("Updating document {} with data: {}", id, request.getData());
             
             User user = getCurrentUser(httpRequest);
-            Document document = documentService.updateDocumentData(id, request, user);
+            Document document = documentService.updateDocumentData(id, request, user, parseIfMatch(ifMatch));
             
             log.info("Document updated successfully: {}", id);
-            return ResponseEntity.ok(DocumentResponse.from(document));
+            return ResponseEntity.ok()
+                    .eTag(versionTag(document.getVersion()))
+                    .body(DocumentResponse.from(document));
+        } catch (DocumentVersionConflictException e) {
+            return versionConflict(e);
         } catch (Exception e) {
             log.error("Error updating document {}", id, e);
             return ResponseEntity.badRequest()
@@ -120,6 +234,65 @@ public class DocumentController {
         }
     }
     
+    /**
+     * 문서 data 부분 수정 - application/json-patch+json(또는 배열 본문)은 JSON Patch, 그 외는 Merge Patch
+     */
+    @PatchMapping(value = "/{id}", consumes = {
+            DocumentPatchService.JSON_PATCH_MEDIA_TYPE,
+            DocumentPatchService.MERGE_PATCH_MEDIA_TYPE,
+            MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchDocument(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletRequest httpRequest) {
+        
+        try {
+            User user = getCurrentUser(httpRequest);
+            boolean jsonPatch = contentType.startsWith(DocumentPatchService.JSON_PATCH_MEDIA_TYPE) || patch.isArray();
+            PatchResult result = documentPatchService.patchDocumentData(id, patch, jsonPatch, user, parseIfMatch(ifMatch));
+            
+            return ResponseEntity.ok()
+                    .eTag(versionTag(result.getVersion()))
+                    .body(Map.of("id", id, "dataSize", result.getDataSize(), "version", result.getVersion()));
+        } catch (DocumentVersionConflictException e) {
+            return versionConflict(e);
+        } catch (DocumentPatchFailedException e) {
+            return ResponseEntity.unprocessableEntity()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error patching document {}", id, e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * 필드 단위 저장 - 다른 필드의 동시 수정은 병합하고 같은 필드의 충돌만 반환
+     * 일부만 반영되면 200 (conflicts 포함), 모두 충돌이면 409
+     */
+    @PatchMapping(value = "/{id}/fields", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> updateDocumentFields(
+            @PathVariable Long id,
+            @Valid @RequestBody DocumentFieldUpdateRequest request,
+            HttpServletRequest httpRequest) {
+        
+        try {
+            User user = getCurrentUser(httpRequest);
+            DocumentFieldUpdateResponse response = documentFieldMergeService.updateFields(id, request, user);
+            
+            HttpStatus status = response.getApplied().isEmpty() ? HttpStatus.CONFLICT : HttpStatus.OK;
+            return ResponseEntity.status(status)
+                    .eTag(versionTag(response.getVersion()))
+                    .body(response);
+        } catch (Exception e) {
+            log.error("Error updating fields of document {}", id, e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     @PostMapping("/{id}/assign-editor")
     public ResponseEntity<?> assignEditor(
             @PathVariable Long id, 
@@ -180,46 +353,100 @@ public class DocumentController {
         }
     }
     
-    @GetMapping("/{id}/download-pdf")
-    public ResponseEntity<?> downloadPdf(@PathVariable Long id, HttpServletRequest httpRequest) {
+    /**
+     * PDF 다운로드용 단기 서명 URL 발급
+     * 발급 시에만 인증/권한을 확인하고, 다운로드 요청은 SignedUrlFilter가 서명만 검증
+     */
+    @PostMapping("/{id}/download-url")
+    public ResponseEntity<?> createDownloadUrl(@PathVariable Long id, HttpServletRequest httpRequest) {
         try {
             User user = getCurrentUser(httpRequest);
             
-            // 문서 조회
-            Document document = documentService.getDocumentById(id)
+            if (!documentService.hasAccess(id, user)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(Map.of("error", "문서에 접근할 권한이 없습니다."));
+            }
+            
+            String url = signedUrlUtil.sign("/api/documents/" + id + "/download-pdf");
+            return ResponseEntity.ok(Map.of(
+                    "url", url,
+                    "expiresIn", signedUrlUtil.getTtlSeconds()
+            ));
+        } catch (Exception e) {
+            log.error("다운로드 URL 발급 실패 - 문서 ID: {}", id, e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 문서에 포함된 서명 이미지의 단기 서명 URL 발급 (검토자 이메일 → URL)
+     * 문서 참여자에게만, 승인 기록과 서명 소유자로 확인된 서명에 대해서만 발급
+     */
+    @GetMapping("/{id}/signature-urls")
+    public ResponseEntity<?> createSignatureUrls(@PathVariable Long id, HttpServletRequest httpRequest) {
+        try {
+            User user = getCurrentUser(httpRequest);
+
+            if (!documentService.hasAccess(id, user)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(Map.of("error", "문서에 접근할 권한이 없습니다."));
+            }
+
+            Map<String, String> urls = new LinkedHashMap<>();
+            documentService.getSignatureReferences(id)
+                    .forEach((email, signatureId) -> urls.put(email, signedUrlUtil.sign("/api/signatures/" + signatureId)));
+            return ResponseEntity.ok(Map.of(
+                    "urls", urls,
+                    "expiresIn", signedUrlUtil.getTtlSeconds()
+            ));
+        } catch (Exception e) {
+            log.error("서명 URL 발급 실패 - 문서 ID: {}", id, e);
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}/download-pdf")
+    public ResponseEntity<?> downloadPdf(
+            @PathVariable Long id,
+            @RequestParam(required = false) Boolean optimized,
+            @RequestParam(defaultValue = "false") boolean inline,
+            HttpServletRequest httpRequest) {
+        try {
+            // 서명 URL로 들어온 요청은 필터에서 이미 검증됨 (JWT 파싱/사용자 조회 생략)
+            if (!SignedUrlFilter.isVerified(httpRequest)) {
+                getCurrentUser(httpRequest);
+            }
+            
+            // 렌더링에 필요한 값만 스냅샷으로 복사 (트랜잭션이 끝나 커넥션을 반납한 뒤 렌더링)
+            DocumentRenderSnapshot snapshot = documentService.getRenderSnapshot(id)
                     .orElseThrow(() -> new RuntimeException("Document not found"));
             
             // PDF 기반 템플릿인지 확인 (pdfFilePath가 있는지로 판단)
-            if (document.getTemplate().getPdfFilePath() == null) {
+            if (snapshot.templatePdfPath() == null) {
                 return ResponseEntity.badRequest()
                         .body(Map.of("error", "PDF 다운로드는 PDF 기반 템플릿만 지원됩니다."));
             }
             
-            // PDF 생성
-            String completedPdfPath = pdfService.generateCompletedPdf(
-                document.getTemplate().getPdfFilePath(),
-                null, // coordinateFields는 더 이상 사용하지 않음
-                document.getData(),
-                document.getTemplate().getName()
-            );
-            
-            log.info("PDF 다운로드 요청 - 문서 ID: {}, 상태: {}", id, document.getStatus());
-            log.info("템플릿 파일 경로: {}", document.getTemplate().getPdfFilePath());
-            log.info("문서 데이터: {}", document.getData());
+            // PDF 생성 (웹 보기 최적화 기본 적용, 문서 수정 시각 기준 캐시)
+            boolean optimize = optimized != null ? optimized : optimizeDownloadsByDefault;
+            Path completedPdfPath = pdfService.getDownloadablePdf(snapshot, optimize);
             
-            // 생성된 PDF 파일을 바이트 배열로 읽기
-            byte[] pdfBytes = Files.readAllBytes(Paths.get(completedPdfPath));
+            log.info("PDF 다운로드 요청 - 문서 ID: {}, 상태: {}, 최적화: {}", id, snapshot.status(), optimize);
+            log.info("템플릿 파일 경로: {}", snapshot.templatePdfPath());
             
             // 파일명 설정 (한글 파일명 지원)
-            String filename = document.getTemplate().getName() + "_완성본.pdf";
+            String filename = snapshot.templateName() + "_완성본.pdf";
             String encodedFilename = java.net.URLEncoder.encode(filename, "UTF-8")
                 .replaceAll("\\+", "%20");
             
-            // PDF 파일 반환
+            // 파일 리소스로 반환하여 Range 요청(206 Partial Content) 지원
             return ResponseEntity.ok()
-                    .header("Content-Type", "application/pdf")
-                    .header("Content-Disposition", "attachment; filename*=UTF-8''" + encodedFilename)
-                    .body(pdfBytes);
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, (inline ? "inline" : "attachment") + "; filename*=UTF-8''" + encodedFilename)
+                    .eTag("\"" + completedPdfPath.getFileName() + "\"")
+                    .body(new FileSystemResource(completedPdfPath));
             
         } catch (Exception e) {
             log.error("PDF 다운로드 실패: {}", e.getMessage(), e);
@@ -248,34 +475,112 @@ public class DocumentController {
         }
     }
     
-    @PostMapping("/{documentId}/approve")
+    @PostMapping(value = "/{documentId}/approve", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<DocumentResponse> approveDocument(
             @PathVariable Long documentId,
             @RequestBody Map<String, Object> requestBody,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest httpRequest) {
         
         User user = getCurrentUser(httpRequest);
         
         String signatureData = (String) requestBody.get("signatureData");
+        boolean useSavedSignature = Boolean.TRUE.equals(requestBody.get("useSavedSignature"));
+        Long expectedVersion = parseIfMatch(ifMatch);
         
-        Document document = documentService.approveDocument(documentId, user, signatureData);
+        Document document = useSavedSignature
+                ? documentService.approveDocumentWithSavedSignature(documentId, user, expectedVersion)
+                : documentService.approveDocument(documentId, user, signatureData, expectedVersion);
         
-        return ResponseEntity.ok(DocumentResponse.from(document));
+        return ResponseEntity.ok()
+                .eTag(versionTag(document.getVersion()))
+                .body(DocumentResponse.from(document));
+    }
+    
+    /**
+     * 서명 이미지를 바이너리(multipart)로 받아 승인
+     */
+    @PostMapping(value = "/{documentId}/approve", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<DocumentResponse> approveDocumentWithSignatureFile(
+            @PathVariable Long documentId,
+            @RequestPart(value = "signature", required = false) MultipartFile signature,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletRequest httpRequest) {
+        
+        User user = getCurrentUser(httpRequest);
+        Long expectedVersion = parseIfMatch(ifMatch);
+        
+        // 서명 파일이 없으면 등록된 사용자 서명 사용
+        Document document = signature == null || signature.isEmpty()
+                ? documentService.approveDocumentWithSavedSignature(documentId, user, expectedVersion)
+                : documentService.approveDocument(documentId, user, signature, expectedVersion);
+        
+        return ResponseEntity.ok()
+                .eTag(versionTag(document.getVersion()))
+                .body(DocumentResponse.from(document));
     }
     
     @PostMapping("/{documentId}/reject")
     public ResponseEntity<DocumentResponse> rejectDocument(
             @PathVariable Long documentId,
             @RequestBody Map<String, Object> requestBody,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest httpRequest) {
         
         User user = getCurrentUser(httpRequest);
         
         String reason = (String) requestBody.get("reason");
         
-        Document document = documentService.rejectDocument(documentId, user, reason);
+        Document document = documentService.rejectDocument(documentId, user, reason, parseIfMatch(ifMatch));
         
-        return ResponseEntity.ok(DocumentResponse.from(document));
+        return ResponseEntity.ok()
+                .eTag(versionTag(document.getVersion()))
+                .body(DocumentResponse.from(document));
+    }
+    
+    /**
+     * 일괄 승인 - 문서별 결과 목록 반환 (같은 서명을 한 번만 저장)
+     */
+    @PostMapping(value = "/batch/approve", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> approveDocuments(
+            @Valid @RequestBody DocumentBatchActionRequest request,
+            HttpServletRequest httpRequest) {
+        try {
+            User user = getCurrentUser(httpRequest);
+            List<BatchTransitionResult> results = documentService.approveDocuments(
+                    request.getDocumentIds(), user, request.getSignatureData(), request.isUseSavedSignature());
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            log.error("Error approving documents in batch", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @PostMapping(value = "/batch/approve", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> approveDocumentsWithSignatureFile(
+            @RequestParam("documentIds") List<Long> documentIds,
+            @RequestPart(value = "signature", required = false) MultipartFile signature,
+            HttpServletRequest httpRequest) {
+        try {
+            User user = getCurrentUser(httpRequest);
+            return ResponseEntity.ok(documentService.approveDocuments(documentIds, user, signature));
+        } catch (Exception e) {
+            log.error("Error approving documents in batch", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/batch/reject")
+    public ResponseEntity<?> rejectDocuments(
+            @Valid @RequestBody DocumentBatchActionRequest request,
+            HttpServletRequest httpRequest) {
+        try {
+            User user = getCurrentUser(httpRequest);
+            return ResponseEntity.ok(documentService.rejectDocuments(request.getDocumentIds(), user, request.getReason()));
+        } catch (Exception e) {
+            log.error("Error rejecting documents in batch", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
     
     @GetMapping("/{documentId}/can-review")
@@ -302,6 +607,49 @@ public class DocumentController {
         }
     }
     
+    @ExceptionHandler(DocumentVersionConflictException.class)
+    public ResponseEntity<?> versionConflict(DocumentVersionConflictException e) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CONFLICT);
+        if (e.getCurrentVersion() != null) {
+            builder.eTag(versionTag(e.getCurrentVersion()));
+        }
+        return builder.body(Map.of(
+                "error", e.getMessage(),
+                "currentVersion", e.getCurrentVersion() != null ? e.getCurrentVersion() : -1));
+    }
+    
+    /**
+     * 엔티티 저장 시 버전 충돌 (다른 요청이 먼저 문서를 수정함)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> optimisticLockFailure(ObjectOptimisticLockingFailureException e) {
+        Long documentId = e.getIdentifier() instanceof Long id ? id : null;
+        Long currentVersion = documentId != null ? documentService.getDocumentVersion(documentId) : null;
+        return versionConflict(new DocumentVersionConflictException(currentVersion));
+    }
+    
+    private String versionTag(Long version) {
+        return "\"" + version + "\"";
+    }
+    
+    /**
+     * If-Match 헤더에서 버전 추출 ("3", W/"3" 형식, * 또는 없으면 null)
+     */
+    private Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("잘못된 If-Match 값입니다: " + ifMatch);
+        }
+    }
+    
     private User getCurrentUser(HttpServletRequest request) {
         try {
             log.info("=== JWT 토큰 추출 시작 ===");
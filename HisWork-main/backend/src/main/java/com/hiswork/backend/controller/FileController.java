@@ -1,5 +1,9 @@
 package com.hiswork.backend.controller;
 
+import com.hiswork.backend.config.ReadYourWritesFilter;
+import com.hiswork.backend.util.JwtUtil;
+import com.hiswork.backend.util.SignedUrlUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,11 +18,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = ReadYourWritesFilter.PIN_HEADER)
 @Slf4j
 public class FileController {
     
@@ -28,6 +33,37 @@ public class FileController {
     @Value("${app.file.pdf-templates-dir}")
     private String pdfTemplatesDir;
     
+    private final JwtUtil jwtUtil;
+    private final SignedUrlUtil signedUrlUtil;
+    
+    /**
+     * 템플릿 이미지/PDF용 서명 URL 발급 (토큰 서명만 확인, DB 조회 없음)
+     */
+    @GetMapping("/signed-url")
+    public ResponseEntity<?> createSignedUrl(@RequestParam String filename, 
+                                             @RequestParam(defaultValue = "pdf-template-images") String type,
+                                             HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ") || !jwtUtil.validateToken(authHeader.substring(7))) {
+            return ResponseEntity.status(401).body(Map.of("error", "인증 토큰이 없거나 유효하지 않습니다."));
+        }
+        
+        if (!"pdf-template-images".equals(type) && !"pdf-templates".equals(type)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "지원하지 않는 파일 유형입니다: " + type));
+        }
+        
+        if (filename.contains("/") || filename.contains("\\") || filename.contains("..")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "잘못된 파일명입니다."));
+        }
+        
+        String path = "/api/files/" + type + "/" + java.net.URLEncoder.encode(filename, java.nio.charset.StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+        return ResponseEntity.ok(Map.of(
+                "url", signedUrlUtil.sign(path),
+                "expiresIn", signedUrlUtil.getTtlSeconds()
+        ));
+    }
+    
     /**
      * PDF 템플릿 이미지 파일 서비스
      */
@@ -0,0 +1,39 @@
+package com.hiswork.backend.controller;
+
+import com.hiswork.backend.config.SignedUrlFilter;
+import com.hiswork.backend.service.SignatureService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/signatures")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@Slf4j
+public class SignatureController {
+
+    private final SignatureService signatureService;
+
+    /**
+     * 서명 이미지 조회 - 서명 URL로만 허용
+     * URL은 문서 참여자 또는 서명 소유자에게만 발급되며, 캐시 기간은 SignedUrlFilter가 URL 만료 시점까지로 설정
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getSignature(@PathVariable Long id, HttpServletRequest request) {
+        if (!SignedUrlFilter.isVerified(request)) {
+            log.warn("서명 URL 없는 서명 이미지 요청 거부 - 서명 ID: {}", id);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return signatureService.getSignature(id)
+                .map(signature -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(signature.getContentType()))
+                        .body(signature.getContent()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
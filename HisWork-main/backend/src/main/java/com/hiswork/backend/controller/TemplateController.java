@@ -1,9 +1,12 @@
 package com.hiswork.backend.controller;
 
+import com.hiswork.backend.config.ReadYourWritesFilter;
 import com.hiswork.backend.domain.Template;
 import com.hiswork.backend.domain.User;
 import com.hiswork.backend.dto.TemplateCreateRequest;
 import com.hiswork.backend.dto.TemplateResponse;
+import com.hiswork.backend.dto.TemplateSearchCondition;
+import com.hiswork.backend.dto.TemplateVersionResponse;
 import com.hiswork.backend.service.TemplateService;
 import com.hiswork.backend.service.PdfService;
 import com.hiswork.backend.repository.UserRepository;
@@ -20,12 +23,13 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/templates")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = ReadYourWritesFilter.PIN_HEADER)
 @Slf4j
 public class TemplateController {
     
@@ -48,7 +52,7 @@ public class TemplateController {
                     .isPublic(request.getIsPublic())
                     .pdfFilePath(request.getPdfFilePath())
                     .pdfImagePath(request.getPdfImagePath())
-                    .coordinateFields(request.getCoordinateFields())  // 추가
+                    .coordinateFields(templateService.parseCoordinateFields(request.getCoordinateFields()))
                     .createdBy(user)
                     .build();
             template = templateService.savePdfTemplate(template);
@@ -85,7 +89,7 @@ public class TemplateController {
                     .isPublic(isPublic)
                     .pdfFilePath(uploadResult.getPdfFilePath())
                     .pdfImagePath(uploadResult.getPdfImagePath())
-                    .coordinateFields(coordinateFields)  // coordinateFields 추가
+                    .coordinateFields(templateService.parseCoordinateFields(coordinateFields))
                     .createdBy(user)
                     .build();
             
@@ -106,7 +110,21 @@ public class TemplateController {
     }
     
     @GetMapping
-    public ResponseEntity<List<TemplateResponse>> getAllTemplates() {
+    public ResponseEntity<?> getAllTemplates(
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Boolean isPublic,
+            @RequestParam(required = false) UUID ownerId) {
+        // 페이지/필터 파라미터가 있으면 요약 키셋 페이지로 응답 (없으면 기존 전체 목록)
+        if (size != null || cursor != null || isPublic != null || ownerId != null) {
+            TemplateSearchCondition condition = TemplateSearchCondition.builder()
+                    .isPublic(isPublic)
+                    .ownerId(ownerId)
+                    .cursorId(cursor)
+                    .build();
+            return ResponseEntity.ok(templateService.getTemplatePage(condition, size != null ? size : 20));
+        }
+        
         List<Template> templates = templateService.getAllTemplates();
         List<TemplateResponse> responses = templates.stream()
                 .map(TemplateResponse::from)
@@ -122,6 +140,14 @@ public class TemplateController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/{id}/versions")
+    public ResponseEntity<List<TemplateVersionResponse>> getTemplateVersions(@PathVariable Long id) {
+        List<TemplateVersionResponse> versions = templateService.getVersions(id).stream()
+                .map(TemplateVersionResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(versions);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTemplate(
             @PathVariable Long id,
@@ -1,11 +1,19 @@
 package com.hiswork.backend.controller;
 
+import com.hiswork.backend.config.ReadYourWritesFilter;
+import com.hiswork.backend.domain.SignatureBlob;
 import com.hiswork.backend.domain.User;
 import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.service.SignatureService;
+import com.hiswork.backend.util.AuthUtil;
+import com.hiswork.backend.util.SignedUrlUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
@@ -14,11 +22,14 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = ReadYourWritesFilter.PIN_HEADER)
 @Slf4j
 public class UserController {
     
     private final UserRepository userRepository;
+    private final SignatureService signatureService;
+    private final AuthUtil authUtil;
+    private final SignedUrlUtil signedUrlUtil;
     
     @GetMapping("/search")
     public ResponseEntity<List<Map<String, Object>>> searchUsers(
@@ -62,4 +73,44 @@ public class UserController {
             return ResponseEntity.ok(List.of()); // 빈 리스트 반환
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 내 서명 등록 (정규화 후 저장, 승인 시 재사용)
+     */
+    @PostMapping(value = "/me/signature", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> saveMySignature(
+            @RequestPart("signature") MultipartFile signature,
+            HttpServletRequest request) {
+        try {
+            User user = authUtil.getCurrentUser(request);
+            SignatureBlob saved = signatureService.saveUserSignature(user, signature);
+            return ResponseEntity.ok(toSignatureResponse(saved));
+        } catch (Exception e) {
+            log.error("서명 등록 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    /**
+     * 내 서명 정보 조회
+     */
+    @GetMapping("/me/signature")
+    public ResponseEntity<?> getMySignature(HttpServletRequest request) {
+        try {
+            User user = authUtil.getCurrentUser(request);
+            return ResponseEntity.ok(toSignatureResponse(signatureService.getUserSignature(user)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // 본인 서명이므로 소유자 확인이 끝난 상태 - 이미지 URL은 단기 서명 URL로 발급
+    private Map<String, Object> toSignatureResponse(SignatureBlob signature) {
+        return Map.of(
+                "signatureId", signature.getId(),
+                "url", signedUrlUtil.sign("/api/signatures/" + signature.getId()),
+                "expiresIn", signedUrlUtil.getTtlSeconds(),
+                "size", signature.getSize()
+        );
+    }
+}
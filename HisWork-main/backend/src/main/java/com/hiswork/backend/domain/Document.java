@@ -8,16 +8,22 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "idx_documents_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_documents_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_documents_template_created_at", columnList = "template_id, created_at, id"),
+        @Index(name = "idx_documents_template_version", columnList = "template_version_id")
+})
+@DynamicUpdate // 변경된 컬럼만 UPDATE (상태만 바뀐 경우 data를 다시 직렬화하지 않음)
 @Data
 @Builder
 @NoArgsConstructor
@@ -25,7 +31,8 @@ import java.util.List;
 public class Document {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_seq")
+    @SequenceGenerator(name = "documents_seq", sequenceName = "documents_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,7 +40,14 @@ public class Document {
     @JsonIgnore
     private Template template;
     
-    @JdbcTypeCode(SqlTypes.JSON)
+    // 생성 시점의 템플릿 버전 (이후 템플릿이 수정되어도 바뀌지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_version_id")
+    @JsonIgnore
+    private TemplateVersion templateVersion;
+    
+    // 불변 값으로 매핑 - 수정할 때는 새 트리로 교체 (JsonNodeType 참고)
+    @Type(JsonNodeType.class)
     @Column(columnDefinition = "jsonb")
     private JsonNode data;
     
@@ -41,6 +55,7 @@ public class Document {
     private DocumentStatus status;
     
     @CreationTimestamp
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
     
     @UpdateTimestamp
@@ -48,6 +63,27 @@ public class Document {
     
     private LocalDateTime deadline;
     
+    // 낙관적 잠금 버전 (ETag / If-Match로 노출)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long version = 0L;
+    
+    // 완료에 필요한 검토자 승인 수 (할당된 검토자 수)
+    @Column(name = "required_approvals", nullable = false, columnDefinition = "integer default 1")
+    @Builder.Default
+    private int requiredApprovals = 1;
+    
+    // 검토자 이메일 -> 승인 정보. 승인 SQL에서만 병합하므로 엔티티 저장 시에는 기록하지 않음
+    @Type(JsonNodeType.class)
+    @Column(nullable = false, columnDefinition = "jsonb default '{}'::jsonb", insertable = false, updatable = false)
+    private JsonNode approvals;
+    
+    // 콜드 스토리지로 이동된 문서 여부 (true이면 data는 documents_archive에 압축 보관)
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    @Builder.Default
+    private boolean archived = false;
+    
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL)
     @JsonIgnore
     @Builder.Default
@@ -0,0 +1,37 @@
+package com.hiswork.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료/반려된 문서의 data를 압축(gzip)하여 보관하는 콜드 스토리지
+ * documents 테이블에는 archived 플래그만 남긴 스텁 행이 유지됨
+ */
+@Entity
+@Table(name = "documents_archive")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentArchive {
+    
+    @Id
+    @Column(name = "document_id")
+    private Long documentId;
+    
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] compressedData;
+    
+    private Integer originalSize;
+    
+    private Integer compressedSize;
+    
+    @CreationTimestamp
+    private LocalDateTime archivedAt;
+}
@@ -12,7 +12,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "documents_role")
+@Table(name = "documents_role", indexes = {
+        @Index(name = "idx_documents_role_user_role_document", columnList = "assigned_user_id, task_role, document_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,7 +22,8 @@ import java.time.LocalDateTime;
 public class DocumentRole {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_role_seq")
+    @SequenceGenerator(name = "documents_role_seq", sequenceName = "documents_role_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,61 @@
+package com.hiswork.backend.domain;
+
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.hiswork.backend.domain.Document.DocumentStatus.COMPLETED;
+import static com.hiswork.backend.domain.Document.DocumentStatus.EDITING;
+import static com.hiswork.backend.domain.Document.DocumentStatus.READY_FOR_REVIEW;
+import static com.hiswork.backend.domain.Document.DocumentStatus.REJECTED;
+import static com.hiswork.backend.domain.DocumentRole.TaskRole.CREATOR;
+import static com.hiswork.backend.domain.DocumentRole.TaskRole.EDITOR;
+import static com.hiswork.backend.domain.DocumentRole.TaskRole.REVIEWER;
+
+/**
+ * 문서 상태 전이 표 - 허용되는 이전 상태, 다음 상태, 수행 가능한 역할, 작업 로그 상태
+ */
+@Getter
+public enum DocumentTransition {
+
+    SUBMIT_FOR_REVIEW("검토 요청", EnumSet.of(EDITING), READY_FOR_REVIEW,
+            EnumSet.of(CREATOR, EDITOR), TasksLog.TaskStatus.COMPLETED),
+    COMPLETE_EDITING("편집 완료", EnumSet.of(EDITING), READY_FOR_REVIEW,
+            EnumSet.of(CREATOR, EDITOR), TasksLog.TaskStatus.COMPLETED),
+    APPROVE("승인", EnumSet.of(READY_FOR_REVIEW), COMPLETED,
+            EnumSet.of(REVIEWER), TasksLog.TaskStatus.COMPLETED),
+    REJECT("거부", EnumSet.of(READY_FOR_REVIEW), REJECTED,
+            EnumSet.of(REVIEWER), TasksLog.TaskStatus.REJECTED);
+
+    private final String label;
+    private final Set<Document.DocumentStatus> from;
+    private final Document.DocumentStatus to;
+    private final Set<DocumentRole.TaskRole> allowedRoles;
+    private final TasksLog.TaskStatus logStatus;
+
+    DocumentTransition(String label, Set<Document.DocumentStatus> from, Document.DocumentStatus to,
+                       Set<DocumentRole.TaskRole> allowedRoles, TasksLog.TaskStatus logStatus) {
+        this.label = label;
+        this.from = from;
+        this.to = to;
+        this.allowedRoles = allowedRoles;
+        this.logStatus = logStatus;
+    }
+
+    public boolean isAllowedFrom(Document.DocumentStatus status) {
+        return from.contains(status);
+    }
+
+    public boolean isAllowedFor(Set<DocumentRole.TaskRole> roles) {
+        return roles.stream().anyMatch(allowedRoles::contains);
+    }
+
+    public String permissionDeniedMessage() {
+        return "문서를 " + label + "할 권한이 없습니다";
+    }
+
+    public String invalidStateMessage(Document.DocumentStatus current) {
+        return "현재 상태(" + current + ")에서는 " + label + "할 수 없습니다 (필요한 상태: " + from + ")";
+    }
+}
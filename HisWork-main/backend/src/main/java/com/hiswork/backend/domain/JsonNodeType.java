@@ -0,0 +1,102 @@
+package com.hiswork.backend.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * jsonb <-> JsonNode 매핑 (불변 값으로 취급)
+ * - 트리는 수정하지 않고 새 트리로 교체해야 함 (copy-on-write)
+ * - 스냅샷은 같은 참조이므로 변경 여부 확인은 참조 비교로 끝나고, 교체된 경우에만 내용 비교
+ * - 변경이 없으면 flush 시 직렬화하지 않음 (@DynamicUpdate와 함께 사용)
+ */
+public class JsonNodeType implements UserType<JsonNode> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public int getSqlType() {
+        return Types.OTHER;
+    }
+
+    @Override
+    public Class<JsonNode> returnedClass() {
+        return JsonNode.class;
+    }
+
+    @Override
+    public boolean equals(JsonNode x, JsonNode y) {
+        return x == y || Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(JsonNode x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public JsonNode nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        String json = rs.getString(position);
+        return json != null ? read(json) : null;
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, JsonNode value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            st.setObject(index, write(value), Types.OTHER);
+        }
+    }
+
+    @Override
+    public JsonNode deepCopy(JsonNode value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(JsonNode value) {
+        return value != null ? write(value) : null;
+    }
+
+    @Override
+    public JsonNode assemble(Serializable cached, Object owner) {
+        return cached != null ? read((String) cached) : null;
+    }
+
+    @Override
+    public JsonNode replace(JsonNode detached, JsonNode managed, Object owner) {
+        return detached;
+    }
+
+    private static JsonNode read(String json) {
+        try {
+            return MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new HibernateException("jsonb 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static String write(JsonNode value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new HibernateException("jsonb 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hiswork.backend.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명 이미지 바이너리 저장소
+ * 문서 data에는 이미지 대신 {"signatureId": id} 참조만 저장
+ */
+@Entity
+@Table(name = "signature_blobs", indexes = {
+        @Index(name = "idx_signature_blobs_owner_sha256", columnList = "owner_id, sha256")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignatureBlob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id", nullable = false)
+    @JsonIgnore
+    private User owner;
+    
+    @Column(nullable = false)
+    private String contentType;
+    
+    private Integer size;
+    
+    @Column(nullable = false, length = 64)
+    private String sha256;
+    
+    @Column(nullable = false, columnDefinition = "bytea")
+    @JsonIgnore
+    private byte[] content;
+    
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
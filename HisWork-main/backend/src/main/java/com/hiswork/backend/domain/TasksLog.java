@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class TasksLog {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_log_seq")
+    @SequenceGenerator(name = "tasks_log_seq", sequenceName = "tasks_log_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,18 +1,28 @@
 package com.hiswork.backend.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+// 조회가 대부분이므로 2차 캐시 (수정/삭제 시 Hibernate가 캐시 갱신)
 @Entity
-@Table(name = "templates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "templates", indexes = {
+        @Index(name = "idx_templates_public_id", columnList = "is_public, id"),
+        @Index(name = "idx_templates_created_by_id", columnList = "created_by, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -35,14 +45,31 @@ public class Template {
     
     private String pdfImagePath;
     
-    @Column(columnDefinition = "TEXT")
-    private String coordinateFields; // JSON 형태로 저장된 좌표 필드 정보
+    // 좌표 필드 정의 (검증된 jsonb, 불변 값 - TemplateDefinition으로 해석하여 사용)
+    @Type(JsonNodeType.class)
+    @Column(columnDefinition = "jsonb")
+    private JsonNode coordinateFields;
+    
+    // coordinateFields 형식 버전 (TemplateDefinition.CURRENT_SCHEMA_VERSION)
+    @Column(name = "fields_schema_version", nullable = false, columnDefinition = "integer default 1")
+    @Builder.Default
+    private int fieldsSchemaVersion = TemplateDefinition.CURRENT_SCHEMA_VERSION;
+    
+    // 좌표 필드 수 (목록 조회에서 coordinateFields를 읽지 않도록 저장 시 계산)
+    @Column(name = "field_count")
+    private Integer fieldCount;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     @JsonIgnore
     private User createdBy;
     
+    // 새 문서가 참조할 현재 버전 (이 엔티티의 이름/PDF/좌표 필드는 현재 버전과 같은 값을 유지)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "current_version_id")
+    @JsonIgnore
+    private TemplateVersion currentVersion;
+    
     @CreationTimestamp
     private LocalDateTime createdAt;
     
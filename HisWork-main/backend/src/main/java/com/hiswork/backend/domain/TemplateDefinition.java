@@ -0,0 +1,152 @@
+package com.hiswork.backend.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 템플릿 좌표 필드 정의 (파싱된 불변 값)
+ * - coordinateFields jsonb를 한 번만 해석하여 필드 메타데이터와 새 문서의 초기 data를 미리 만들어 둠
+ * - 문서 생성 시에는 초기 data를 구조 복사만 하면 됨
+ */
+public final class TemplateDefinition {
+
+    public static final int CURRENT_SCHEMA_VERSION = 1;
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final TemplateDefinition EMPTY = new TemplateDefinition(List.of(), NODES.objectNode());
+
+    private final List<FieldDefinition> fields;
+    private final Map<String, FieldDefinition> fieldsById;
+    private final ObjectNode initialData;
+
+    private TemplateDefinition(List<FieldDefinition> fields, ObjectNode initialData) {
+        this.fields = Collections.unmodifiableList(fields);
+        Map<String, FieldDefinition> byId = new LinkedHashMap<>();
+        for (FieldDefinition field : fields) {
+            if (field.id() != null) {
+                byId.putIfAbsent(field.id(), field);
+            }
+        }
+        this.fieldsById = Collections.unmodifiableMap(byId);
+        this.initialData = initialData;
+    }
+
+    public static TemplateDefinition empty() {
+        return EMPTY;
+    }
+
+    /**
+     * coordinateFields 검증 - 스키마 버전 1은 필드 객체의 배열
+     */
+    public static void validate(JsonNode coordinateFields, int schemaVersion) {
+        if (schemaVersion != CURRENT_SCHEMA_VERSION) {
+            throw new RuntimeException("지원하지 않는 좌표 필드 스키마 버전입니다: " + schemaVersion);
+        }
+        if (coordinateFields == null || coordinateFields.isNull()) {
+            return;
+        }
+        if (!coordinateFields.isArray()) {
+            throw new RuntimeException("좌표 필드는 배열이어야 합니다");
+        }
+        for (JsonNode field : coordinateFields) {
+            if (!field.isObject()) {
+                throw new RuntimeException("좌표 필드 항목은 객체여야 합니다");
+            }
+        }
+    }
+
+    public static TemplateDefinition parse(JsonNode coordinateFields, int schemaVersion) {
+        validate(coordinateFields, schemaVersion);
+        if (coordinateFields == null || coordinateFields.isNull() || coordinateFields.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<FieldDefinition> fields = new ArrayList<>();
+        ArrayNode documentFields = NODES.arrayNode();
+        ArrayNode tableInitFields = NODES.arrayNode();
+
+        for (JsonNode field : coordinateFields) {
+            FieldDefinition definition = FieldDefinition.from(field);
+            fields.add(definition);
+
+            // 값만 빈 상태로 복사 (레거시 지원용)
+            ObjectNode fieldCopy = field.deepCopy();
+            fieldCopy.put("value", "");
+            documentFields.add(fieldCopy);
+
+            // 표 초기 필드 분리하여 보조 구조 생성
+            if (definition.isTable()) {
+                ObjectNode tableNode = NODES.objectNode();
+                tableNode.put("type", "table");
+                tableNode.put("tableId", definition.tableId());
+                tableNode.put("x", definition.x());
+                tableNode.put("y", definition.y());
+                tableNode.put("height", definition.height());
+                tableNode.put("width", definition.width());
+                if (field.path("columns").isArray()) {
+                    tableNode.set("columns", field.get("columns").deepCopy());
+                }
+                tableInitFields.add(tableNode);
+            }
+        }
+
+        ObjectNode initialData = NODES.objectNode();
+        initialData.set("coordinateFields", documentFields);
+        if (!tableInitFields.isEmpty()) {
+            initialData.set("table init Fields", tableInitFields);
+        }
+        return new TemplateDefinition(fields, initialData);
+    }
+
+    public List<FieldDefinition> getFields() {
+        return fields;
+    }
+
+    public Optional<FieldDefinition> getField(String id) {
+        return Optional.ofNullable(fieldsById.get(id));
+    }
+
+    public int getFieldCount() {
+        return fields.size();
+    }
+
+    /**
+     * 새 문서의 초기 data (매번 새 트리)
+     */
+    public ObjectNode newDocumentData() {
+        return initialData.deepCopy();
+    }
+
+    /**
+     * 좌표 필드 하나의 메타데이터 (원본 노드는 읽기 전용으로 취급)
+     */
+    public record FieldDefinition(String id, String type, String tableId,
+                                  int x, int y, int width, int height, JsonNode source) {
+
+        static FieldDefinition from(JsonNode field) {
+            String id = field.path("id").asText(null);
+            return new FieldDefinition(
+                    id,
+                    field.path("type").asText(null),
+                    field.path("tableId").asText(id),
+                    field.path("x").asInt(),
+                    field.path("y").asInt(),
+                    field.path("width").asInt(),
+                    field.path("height").asInt(),
+                    field);
+        }
+
+        public boolean isTable() {
+            return "table".equals(type);
+        }
+    }
+}
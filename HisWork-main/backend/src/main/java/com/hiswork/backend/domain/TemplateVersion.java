@@ -0,0 +1,77 @@
+package com.hiswork.backend.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * 템플릿 버전 (생성 후 변경하지 않음)
+ * 템플릿을 수정할 때마다 새 버전을 만들고, 문서는 생성 시점의 버전을 참조하므로
+ * 버전 ID를 키로 한 캐시(정의, 완성 PDF 등)는 무효화 없이 유지 가능
+ */
+@Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Table(name = "template_versions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_template_versions_template_number", columnNames = {"template_id", "version_number"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateVersion {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id", nullable = false)
+    @JsonIgnore
+    private Template template;
+    
+    // 템플릿 안에서 1부터 증가
+    @Column(name = "version_number", nullable = false)
+    private int versionNumber;
+    
+    @Column(nullable = false)
+    private String name;
+    
+    @Column(columnDefinition = "TEXT")
+    private String description;
+    
+    private String pdfFilePath;
+    
+    private String pdfImagePath;
+    
+    @Type(JsonNodeType.class)
+    @Column(columnDefinition = "jsonb")
+    private JsonNode coordinateFields;
+    
+    @Column(name = "fields_schema_version", nullable = false, columnDefinition = "integer default 1")
+    @Builder.Default
+    private int fieldsSchemaVersion = TemplateDefinition.CURRENT_SCHEMA_VERSION;
+    
+    @Column(name = "field_count")
+    private Integer fieldCount;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false)
+    @JsonIgnore
+    private User createdBy;
+    
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -13,7 +15,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// 요청마다 현재 사용자를 조회하므로 2차 캐시 (findByEmail은 조회 캐시)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "users")
 @Data
 @Builder
@@ -47,6 +52,9 @@ public class User {
     
     private String signatureImageUrl;
     
+    // 한 번 업로드해 두고 승인 시 재사용하는 서명 (signature_blobs 참조)
+    private Long signatureBlobId;
+    
     @CreationTimestamp
     private LocalDateTime createdAt;
     
@@ -0,0 +1,36 @@
+package com.hiswork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 승인/거부의 문서별 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransitionResult {
+    private Long documentId;
+    private boolean success;
+    private Long version;
+    private String error;
+    
+    public static BatchTransitionResult applied(Long documentId, Long version) {
+        return BatchTransitionResult.builder()
+                .documentId(documentId)
+                .success(true)
+                .version(version)
+                .build();
+    }
+    
+    public static BatchTransitionResult failed(Long documentId, String error) {
+        return BatchTransitionResult.builder()
+                .documentId(documentId)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
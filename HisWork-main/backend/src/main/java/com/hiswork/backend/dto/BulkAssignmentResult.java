@@ -0,0 +1,36 @@
+package com.hiswork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 작업 할당의 편집자별 결과 (NDJSON 한 줄)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignmentResult {
+    private String editorEmail;
+    private Long documentId;
+    private boolean success;
+    private String error;
+    
+    public static BulkAssignmentResult created(String editorEmail, Long documentId) {
+        return BulkAssignmentResult.builder()
+                .editorEmail(editorEmail)
+                .documentId(documentId)
+                .success(true)
+                .build();
+    }
+    
+    public static BulkAssignmentResult failed(String editorEmail, String error) {
+        return BulkAssignmentResult.builder()
+                .editorEmail(editorEmail)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
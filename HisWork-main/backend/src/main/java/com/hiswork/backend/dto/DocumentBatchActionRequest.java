@@ -0,0 +1,19 @@
+package com.hiswork.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class DocumentBatchActionRequest {
+    
+    @NotEmpty(message = "문서 ID 목록은 필수입니다")
+    private List<Long> documentIds;
+    
+    private String signatureData; // 승인: base64 서명 (모든 문서에 같은 서명 참조 사용)
+    
+    private boolean useSavedSignature; // 승인: 등록된 사용자 서명 사용
+    
+    private String reason; // 거부 사유
+}
@@ -0,0 +1,17 @@
+package com.hiswork.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class DocumentBulkCreateRequest {
+    
+    @NotNull(message = "템플릿 ID는 필수입니다")
+    private Long templateId;
+    
+    @NotEmpty(message = "편집자 이메일 목록은 필수입니다")
+    private List<String> editorEmails; // 편집자마다 독립된 문서 생성
+}
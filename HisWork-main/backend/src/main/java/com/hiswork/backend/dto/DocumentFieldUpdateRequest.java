@@ -0,0 +1,39 @@
+package com.hiswork.backend.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 필드 단위 저장 요청 - 변경된 필드만 보내고, 각 필드는 편집을 시작한 시점의 필드 버전(baseVersion)을 함께 전달
+ */
+@Data
+public class DocumentFieldUpdateRequest {
+    
+    @NotEmpty(message = "변경된 필드가 없습니다")
+    private List<FieldChange> changes;
+    
+    @Data
+    public static class FieldChange {
+        private String fieldId;   // coordinateData 필드 ID
+        private String tableId;   // 표 셀이면 tableId + row + column
+        private String row;
+        private String column;
+        private String fontSize;  // 표 셀 글자 크기 (선택)
+        private JsonNode value;
+        private Long baseVersion; // null이면 버전 확인 없이 덮어씀
+        
+        /**
+         * data.fieldVersions의 키 - 표 셀은 "tableId:row:column"
+         */
+        public String key() {
+            return tableId != null ? tableId + ":" + row + ":" + column : fieldId;
+        }
+        
+        public boolean isTableCell() {
+            return tableId != null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.hiswork.backend.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentFieldUpdateResponse {
+    private Long version;                  // 문서 버전
+    private Map<String, Long> applied;     // 반영된 필드 -> 새 필드 버전
+    private List<FieldConflict> conflicts; // 다른 사용자가 먼저 수정한 필드
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldConflict {
+        private String field;
+        private Long currentVersion;
+        private JsonNode currentValue;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hiswork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentPageResponse {
+    private List<DocumentResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+    
+    // 전체 건수 추정치 (상한에 도달하면 totalCapped = true, 예: "1000+")
+    private Long totalEstimate;
+    private boolean totalCapped;
+    
+    /**
+     * 커서 인코딩 - "createdAt|id"를 base64url로 변환
+     */
+    public static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 디코딩 - [0]: createdAt, [1]: id
+     */
+    public static Object[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Object[]{
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            };
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 커서 값입니다: " + cursor);
+        }
+    }
+}
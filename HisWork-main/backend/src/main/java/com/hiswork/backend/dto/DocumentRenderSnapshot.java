@@ -0,0 +1,39 @@
+package com.hiswork.backend.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.TemplateVersion;
+
+/**
+ * PDF 렌더링용 문서 스냅샷 - 트랜잭션 안에서 필요한 값만 복사하여 엔티티/커넥션과 분리
+ */
+public record DocumentRenderSnapshot(
+        Long documentId,
+        Long version,
+        Document.DocumentStatus status,
+        Long templateId,
+        String templateName,
+        String templatePdfPath,
+        JsonNode data) {
+    
+    /**
+     * 템플릿 값은 문서가 생성된 템플릿 버전 기준 (버전이 없는 이전 문서는 템플릿의 현재 값)
+     * @param signatures 렌더링할 서명 (서버에서 확인한 값으로 data.signatures를 대체)
+     */
+    public static DocumentRenderSnapshot from(Document document, ObjectNode signatures) {
+        TemplateVersion templateVersion = document.getTemplateVersion();
+        JsonNode data = document.getData() != null ? document.getData().deepCopy() : null;
+        if (data instanceof ObjectNode object) {
+            object.set("signatures", signatures);
+        }
+        return new DocumentRenderSnapshot(
+                document.getId(),
+                document.getVersion(),
+                document.getStatus(),
+                document.getTemplate().getId(),
+                templateVersion != null ? templateVersion.getName() : document.getTemplate().getName(),
+                templateVersion != null ? templateVersion.getPdfFilePath() : document.getTemplate().getPdfFilePath(),
+                data);
+    }
+}
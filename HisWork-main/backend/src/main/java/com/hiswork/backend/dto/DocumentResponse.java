@@ -3,6 +3,8 @@ package com.hiswork.backend.dto;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.hiswork.backend.domain.Document;
 import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.TemplateVersion;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,6 +27,9 @@ public class DocumentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime deadline;
+    private Long version;
+    private int requiredApprovals;
+    private JsonNode approvals; // 검토자 이메일 -> {approvedAt}
     private List<TaskInfo> tasks;
     
     // Template 정보 추가
@@ -35,17 +40,20 @@ public class DocumentResponse {
                 .map(TaskInfo::from)
                 .collect(Collectors.toList());
         
-        TemplateInfo templateInfo = TemplateInfo.from(document.getTemplate());
+        TemplateInfo templateInfo = TemplateInfo.from(document.getTemplate(), document.getTemplateVersion());
         
         return DocumentResponse.builder()
                 .id(document.getId())
                 .templateId(document.getTemplate().getId())
-                .templateName(document.getTemplate().getName())
+                .templateName(templateInfo.getName())
                 .data(document.getData())
                 .status(document.getStatus().name())
                 .createdAt(document.getCreatedAt())
                 .updatedAt(document.getUpdatedAt())
                 .deadline(document.getDeadline())
+                .version(document.getVersion())
+                .requiredApprovals(document.getRequiredApprovals())
+                .approvals(document.getApprovals())
                 .tasks(taskInfos)
                 .template(templateInfo)
                 .build();
@@ -81,6 +89,8 @@ public class DocumentResponse {
     @AllArgsConstructor
     public static class TemplateInfo {
         private Long id;
+        private Long versionId; // 문서가 생성된 템플릿 버전
+        private Integer versionNumber;
         private String name;
         private String description;
         private Boolean isPublic;
@@ -90,7 +100,29 @@ public class DocumentResponse {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
         
-        public static TemplateInfo from(com.hiswork.backend.domain.Template template) {
+        /**
+         * 문서가 생성된 템플릿 버전 기준 (버전이 없는 이전 문서는 템플릿의 현재 값)
+         */
+        public static TemplateInfo from(Template template, TemplateVersion version) {
+            if (version == null) {
+                return from(template);
+            }
+            return TemplateInfo.builder()
+                    .id(template.getId())
+                    .versionId(version.getId())
+                    .versionNumber(version.getVersionNumber())
+                    .name(version.getName())
+                    .description(version.getDescription())
+                    .isPublic(template.getIsPublic())
+                    .pdfFilePath(version.getPdfFilePath())
+                    .pdfImagePath(version.getPdfImagePath())
+                    .coordinateFields(version.getCoordinateFields() != null ? version.getCoordinateFields().toString() : null)
+                    .createdAt(template.getCreatedAt())
+                    .updatedAt(version.getCreatedAt())
+                    .build();
+        }
+        
+        public static TemplateInfo from(Template template) {
             return TemplateInfo.builder()
                     .id(template.getId())
                     .name(template.getName())
@@ -98,10 +130,10 @@ public class DocumentResponse {
                     .isPublic(template.getIsPublic())
                     .pdfFilePath(template.getPdfFilePath())
                     .pdfImagePath(template.getPdfImagePath())
-                    .coordinateFields(template.getCoordinateFields())
+                    .coordinateFields(template.getCoordinateFields() != null ? template.getCoordinateFields().toString() : null)
                     .createdAt(template.getCreatedAt())
                     .updatedAt(template.getUpdatedAt())
                     .build();
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.hiswork.backend.dto;
+
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.DocumentRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 문서 목록 조회 조건 (필터 + 키셋 커서)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentSearchCondition {
+    private UUID userId;
+    private Document.DocumentStatus status;
+    private DocumentRole.TaskRole role;
+    private Long templateId;
+    
+    // 이전 페이지 마지막 문서의 (createdAt, id) - null이면 첫 페이지
+    private LocalDateTime cursorCreatedAt;
+    private Long cursorId;
+    
+    public boolean hasCursor() {
+        return cursorCreatedAt != null && cursorId != null;
+    }
+}
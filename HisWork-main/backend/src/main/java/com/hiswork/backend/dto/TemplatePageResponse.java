@@ -0,0 +1,18 @@
+package com.hiswork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplatePageResponse {
+    private List<TemplateSummary> items;
+    private Long nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달
+    private boolean hasNext;
+}
@@ -34,7 +34,7 @@ public class TemplateResponse {
                 .isPublic(template.getIsPublic())
                 .pdfFilePath(template.getPdfFilePath())
                 .pdfImagePath(template.getPdfImagePath())
-                .coordinateFields(template.getCoordinateFields())  // 추가
+                .coordinateFields(template.getCoordinateFields() != null ? template.getCoordinateFields().toString() : null)  // 추가
                 .createdById(template.getCreatedBy().getId())
                 .createdByName(template.getCreatedBy().getName())
                 .createdAt(template.getCreatedAt())
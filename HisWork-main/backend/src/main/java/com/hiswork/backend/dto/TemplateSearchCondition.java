@@ -0,0 +1,23 @@
+package com.hiswork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 템플릿 목록 조회 조건 (필터 + 키셋 커서)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateSearchCondition {
+    private Boolean isPublic;
+    private UUID ownerId;
+    
+    // 이전 페이지 마지막 템플릿 ID - null이면 첫 페이지
+    private Long cursorId;
+}
@@ -0,0 +1,25 @@
+package com.hiswork.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 템플릿 목록 항목 (좌표 필드 정의 제외) - 전체 정의는 상세 조회(/api/templates/{id})에서만 로딩
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateSummary {
+    private Long id;
+    private String name;
+    private String thumbnailPath; // PDF 첫 페이지 이미지 (pdfImagePath)
+    private Integer fieldCount;
+    private String ownerName;
+    private Boolean isPublic;
+    private LocalDateTime createdAt;
+}
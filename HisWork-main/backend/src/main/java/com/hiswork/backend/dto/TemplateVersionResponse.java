@@ -0,0 +1,36 @@
+package com.hiswork.backend.dto;
+
+import com.hiswork.backend.domain.TemplateVersion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 템플릿 버전 목록 항목 (좌표 필드 정의 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateVersionResponse {
+    private Long id;
+    private int versionNumber;
+    private String name;
+    private String pdfImagePath;
+    private Integer fieldCount;
+    private LocalDateTime createdAt;
+    
+    public static TemplateVersionResponse from(TemplateVersion version) {
+        return TemplateVersionResponse.builder()
+                .id(version.getId())
+                .versionNumber(version.getVersionNumber())
+                .name(version.getName())
+                .pdfImagePath(version.getPdfImagePath())
+                .fieldCount(version.getFieldCount())
+                .createdAt(version.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.hiswork.backend.exception;
+
+/**
+ * JSON Patch 연산을 현재 문서에 적용할 수 없을 때 발생 (HTTP 422)
+ * test 불일치, 없는 경로의 replace/remove 등 - 패치 전체가 적용되지 않음
+ */
+public class DocumentPatchFailedException extends RuntimeException {
+
+    public DocumentPatchFailedException() {
+        super("패치를 적용할 수 없습니다. test 조건이 일치하지 않거나 대상 경로가 없습니다.");
+    }
+}
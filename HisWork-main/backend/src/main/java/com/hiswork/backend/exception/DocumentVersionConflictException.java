@@ -0,0 +1,17 @@
+package com.hiswork.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청한 버전(If-Match)과 현재 문서 버전이 다를 때 발생 (HTTP 409)
+ */
+@Getter
+public class DocumentVersionConflictException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public DocumentVersionConflictException(Long currentVersion) {
+        super("다른 사용자가 먼저 문서를 수정했습니다. 최신 버전을 다시 불러와 주세요. (현재 버전: " + currentVersion + ")");
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,248 @@
+package com.hiswork.backend.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * documents.data 부분 수정 - 문서를 읽지 않고 jsonb_set / #- / || 로 DB에서 직접 적용
+ * 연산은 순서대로 적용하며, 하나라도 적용할 수 없으면 (test 불일치, 없는 경로) 패치 전체를 적용하지 않음 (RFC 6902)
+ * 클라이언트 data 기록(자동 저장, 패치)은 서버가 기록한 data.signatures를 바꾸지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentDataPatchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public enum OperationType {
+        SET,      // 경로에 값 저장 (없으면 생성)
+        REPLACE,  // 경로의 값 교체 (없으면 실패)
+        ADD,      // 배열이면 삽입, 객체면 저장 (상위 경로가 없거나 배열 위치가 범위 밖이면 실패)
+        REMOVE,   // 경로 제거 (없으면 실패)
+        UNSET,    // 경로 제거 (없으면 무시)
+        COPY,     // from 값을 path에 복사 (from이 없으면 실패)
+        MOVE,     // from 값을 path로 이동 (from이 없으면 실패)
+        MERGE,    // 경로의 객체에 얕은 병합 (객체가 아니면 빈 객체로 대체)
+        TEST      // 앞선 연산까지 적용한 값이 일치하는지 확인
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Operation {
+        private OperationType type;
+        private List<String> path;
+        private List<String> from;
+        private JsonNode value;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class PatchResult {
+        private int dataSize;   // 수정 후 data 컬럼의 저장 크기(bytes)
+        private long version;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class LockedData {
+        private JsonNode data;
+        private long version;
+    }
+
+    /**
+     * 필드 병합용 - 문서 행을 트랜잭션 끝까지 잠그고 현재 data와 버전 조회
+     */
+    public Optional<LockedData> lockData(Long documentId) {
+        List<LockedData> rows = jdbcTemplate.query(
+                "SELECT COALESCE(data, '{}'::jsonb)::text, version FROM documents WHERE id = :id AND archived = false FOR UPDATE",
+                new MapSqlParameterSource("id", documentId),
+                (rs, rowNum) -> new LockedData(readJson(rs.getString(1)), rs.getLong(2)));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 자동 저장 버퍼 기록 - 버퍼에서 부여한 논리 버전으로 data 전체 갱신
+     * DB 버전이 더 낮을 때만 기록 (이전 편집이 늦게 도착해도 덮어쓰지 않음)
+     * @return 기록 여부
+     */
+    public boolean writeData(Long documentId, JsonNode data, long version) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", documentId)
+                .addValue("data", toJson(data))
+                .addValue("version", version);
+        return jdbcTemplate.update("UPDATE documents SET data = " + keepSignatures("CAST(:data AS jsonb)") +
+                ", version = :version, updated_at = now() " +
+                "WHERE id = :id AND archived = false AND version < :version", params) > 0;
+    }
+
+    /**
+     * 연산을 하나의 UPDATE 문으로 적용 (expectedVersion이 있으면 버전 조건 추가)
+     * 각 연산은 앞선 연산의 결과에 적용하고, 적용할 수 없으면 NULL이 되어 이후 연산과 UPDATE 모두 건너뜀
+     * @return 대상 문서가 없거나 조건이 맞지 않거나 적용할 수 없는 연산이 있으면 empty
+     */
+    public Optional<PatchResult> apply(Long documentId, List<Operation> operations, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", documentId);
+        if (expectedVersion != null) {
+            params.addValue("expectedVersion", expectedVersion);
+        }
+        String expression = "COALESCE(data, '{}'::jsonb)";
+        int index = 0;
+
+        for (Operation operation : operations) {
+            String path = ":p" + index;
+            String from = ":f" + index;
+            String value = ":v" + index;
+            params.addValue("p" + index, toTextArray(operation.getPath()));
+            params.addValue("f" + index, toTextArray(operation.getFrom()));
+            params.addValue("v" + index, toJson(operation.getValue()));
+            String pathArray = "CAST(" + path + " AS text[])";
+            String fromArray = "CAST(" + from + " AS text[])";
+            String jsonValue = "CAST(" + value + " AS jsonb)";
+            boolean root = operation.getPath().isEmpty();
+
+            String guard = "TRUE";
+            String result;
+            switch (operation.getType()) {
+                case SET -> result = root ? jsonValue
+                        : "jsonb_set(x, " + pathArray + ", " + jsonValue + ", true)";
+                case REPLACE -> {
+                    guard = exists(pathArray);
+                    result = root ? jsonValue : "jsonb_set(x, " + pathArray + ", " + jsonValue + ", false)";
+                }
+                case REMOVE -> {
+                    guard = exists(pathArray);
+                    result = root ? "'{}'::jsonb" : "(x #- " + pathArray + ")";
+                }
+                case UNSET -> result = root ? "'{}'::jsonb" : "(x #- " + pathArray + ")";
+                case ADD -> {
+                    guard = root ? "TRUE" : addTarget(path);
+                    result = root ? jsonValue
+                            : "CASE WHEN jsonb_typeof(x #> " + parentArray(path) + ") = 'array' " +
+                              "THEN jsonb_insert(x, " + insertPathArray(path) + ", " + jsonValue + ", " + isAppend(path) + ") " +
+                              "ELSE jsonb_set(x, " + pathArray + ", " + jsonValue + ", true) END";
+                }
+                case COPY -> {
+                    guard = exists(fromArray);
+                    result = root ? "(x #> " + fromArray + ")"
+                            : "jsonb_set(x, " + pathArray + ", x #> " + fromArray + ", true)";
+                }
+                case MOVE -> {
+                    guard = exists(fromArray);
+                    result = root ? "(x #> " + fromArray + ")"
+                            : "jsonb_set(x #- " + fromArray + ", " + pathArray + ", x #> " + fromArray + ", true)";
+                }
+                case MERGE -> result = root
+                        ? "CASE WHEN jsonb_typeof(x) = 'object' THEN x ELSE '{}'::jsonb END || " + jsonValue
+                        : "jsonb_set(x, " + pathArray + ", " +
+                          "CASE WHEN jsonb_typeof(x #> " + pathArray + ") = 'object' THEN x #> " + pathArray + " ELSE '{}'::jsonb END || " + jsonValue + ", true)";
+                case TEST -> {
+                    guard = "(x #> " + pathArray + ") = " + jsonValue;
+                    result = "x";
+                }
+                default -> throw new IllegalStateException("Unexpected operation: " + operation.getType());
+            }
+            // x가 NULL(앞선 연산 실패)이거나 조건이 맞지 않으면 NULL
+            expression = "(SELECT CASE WHEN x IS NOT NULL AND (" + guard + ") THEN " + result + " END " +
+                         "FROM (SELECT " + expression + " AS x) t" + index + ")";
+            index++;
+        }
+
+        // 행을 잠그고 패치 결과를 한 번만 계산 (동시 수정 시 잠금 후 최신 행 기준으로 다시 계산됨)
+        String sql = "WITH target AS (SELECT id, " + expression + " AS patched FROM documents " +
+                     "WHERE id = :id AND archived = false" +
+                     (expectedVersion != null ? " AND version = :expectedVersion" : "") + " FOR UPDATE) " +
+                     "UPDATE documents d SET data = " + keepSignatures("t.patched") + ", version = d.version + 1, updated_at = now() " +
+                     "FROM target t WHERE d.id = t.id AND t.patched IS NOT NULL " +
+                     "RETURNING pg_column_size(d.data), d.version";
+
+        List<PatchResult> results = jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> new PatchResult(rs.getInt(1), rs.getLong(2)));
+        return results.stream().findFirst();
+    }
+
+    /**
+     * 새 data의 signatures를 현재 행의 값으로 대체 (승인 시 서버가 기록한 서명 참조만 유지)
+     */
+    private String keepSignatures(String expression) {
+        return "(SELECT CASE WHEN jsonb_typeof(x) = 'object' THEN (x - 'signatures') || " +
+               "CASE WHEN jsonb_typeof(data -> 'signatures') = 'object' " +
+               "THEN jsonb_build_object('signatures', data -> 'signatures') ELSE '{}'::jsonb END " +
+               "ELSE x END FROM (SELECT " + expression + " AS x) ks)";
+    }
+
+    private String exists(String pathArray) {
+        return "(x #> " + pathArray + ") IS NOT NULL";
+    }
+
+    /**
+     * add 대상 확인 - 상위 값이 객체이거나, 배열이면 마지막 토큰이 "-" 또는 0..길이 범위의 인덱스
+     */
+    private String addTarget(String path) {
+        String parent = "(x #> " + parentArray(path) + ")";
+        String last = "(CAST(" + path + " AS text[]))[array_length(CAST(" + path + " AS text[]), 1)]";
+        // 숫자가 아닌 토큰을 int로 변환하지 않도록 CASE로 평가 순서를 고정
+        return "CASE WHEN jsonb_typeof(" + parent + ") = 'object' THEN TRUE " +
+               "WHEN jsonb_typeof(" + parent + ") <> 'array' OR jsonb_typeof(" + parent + ") IS NULL THEN FALSE " +
+               "WHEN " + last + " = '-' THEN TRUE " +
+               "WHEN " + last + " ~ '^(0|[1-9][0-9]{0,8})$' THEN CAST(" + last + " AS int) <= jsonb_array_length(" + parent + ") " +
+               "ELSE FALSE END";
+    }
+
+    // 배열 삽입 위치: "-"는 마지막 요소 뒤, 숫자는 해당 인덱스 앞
+    private String insertPathArray(String path) {
+        return "CAST(regexp_replace(" + path + ", '\"-\"}$', '\"-1\"}') AS text[])";
+    }
+
+    private String isAppend(String path) {
+        return "(" + path + " LIKE '%\"-\"}')";
+    }
+
+    private String parentArray(String path) {
+        return "(CAST(" + path + " AS text[]))[1:array_length(CAST(" + path + " AS text[]), 1) - 1]";
+    }
+
+    /**
+     * PostgreSQL 배열 리터럴로 변환 - 각 요소를 따옴표로 감싸고 \ 와 " 를 이스케이프
+     */
+    private String toTextArray(List<String> tokens) {
+        if (tokens == null) {
+            return "{}";
+        }
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"')
+                    .append(tokens.get(i).replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+        }
+        return literal.append('}').toString();
+    }
+
+    private JsonNode readJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("문서 data 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String toJson(JsonNode value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("문서 data 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,17 +1,56 @@
 package com.hiswork.backend.repository;
 
 import com.hiswork.backend.domain.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, DocumentRepositoryCustom {
     
-    @Query("SELECT d FROM Document d JOIN d.documentRoles dr WHERE dr.assignedUser.id = :userId ORDER BY d.createdAt DESC")
+    // 목록 응답에 필요한 템플릿(버전)/역할/담당자를 한 번에 로딩 (역할 조건은 서브쿼리로 처리하여 문서 중복 방지)
+    @EntityGraph(attributePaths = {"template", "templateVersion", "documentRoles", "documentRoles.assignedUser"})
+    @Query("SELECT d FROM Document d WHERE d.id IN " +
+           "(SELECT dr.document.id FROM DocumentRole dr WHERE dr.assignedUser.id = :userId) " +
+           "ORDER BY d.createdAt DESC")
     List<Document> findDocumentsByUserId(@Param("userId") UUID userId);
+    
+    @EntityGraph(attributePaths = {"template", "templateVersion", "documentRoles", "documentRoles.assignedUser"})
+    @Query("SELECT d FROM Document d WHERE d.id = :id")
+    Optional<Document> findWithDetailsById(@Param("id") Long id);
+    
+    @EntityGraph(attributePaths = {"template", "templateVersion", "documentRoles", "documentRoles.assignedUser"})
+    @Query("SELECT d FROM Document d WHERE d.id IN :ids")
+    List<Document> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT d.status FROM Document d WHERE d.id = :id")
+    Optional<Document.DocumentStatus> findStatusById(@Param("id") Long id);
+    
+    // [id, status] 목록
+    @Query("SELECT d.id, d.status FROM Document d WHERE d.id IN :ids")
+    List<Object[]> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 주어진 문서 중 해당 검토자가 이미 승인한 문서 ID
+    @Query(value = "SELECT id FROM documents WHERE id IN (:ids) AND jsonb_exists(approvals, :reviewerKey)", nativeQuery = true)
+    List<Long> findIdsApprovedBy(@Param("ids") Collection<Long> ids, @Param("reviewerKey") String reviewerKey);
+    
+    @Query("SELECT d.version FROM Document d WHERE d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+    
+    @Query("SELECT d.archived FROM Document d WHERE d.id = :id")
+    Optional<Boolean> findArchivedById(@Param("id") Long id);
+    
+    @Query("SELECT d.id FROM Document d WHERE d.archived = false AND d.status IN :statuses AND d.updatedAt < :before ORDER BY d.updatedAt")
+    List<Long> findArchivableIds(@Param("statuses") Collection<Document.DocumentStatus> statuses, 
+                                 @Param("before") LocalDateTime before, 
+                                 Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.dto.DocumentSearchCondition;
+
+import java.util.List;
+
+public interface DocumentRepositoryCustom {
+    
+    /**
+     * 조건에 맞는 문서 ID를 (createdAt DESC, id DESC) 순으로 limit 건 조회 (키셋 페이지네이션)
+     */
+    List<Long> findPageIds(DocumentSearchCondition condition, int limit);
+    
+    /**
+     * 조건에 맞는 문서 수 - cap 건까지만 센다
+     */
+    long countUpTo(DocumentSearchCondition condition, int cap);
+}
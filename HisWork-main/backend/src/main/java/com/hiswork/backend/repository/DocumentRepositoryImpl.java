@@ -0,0 +1,82 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.dto.DocumentSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문서 목록 동적 조회 - 주어진 필터만 조건에 포함하여 인덱스를 그대로 탈 수 있도록 함
+ */
+@RequiredArgsConstructor
+public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public List<Long> findPageIds(DocumentSearchCondition condition, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT d.id FROM Document d WHERE EXISTS (" +
+                "SELECT 1 FROM DocumentRole dr WHERE dr.document = d AND dr.assignedUser.id = :userId");
+        params.put("userId", condition.getUserId());
+        
+        if (condition.getRole() != null) {
+            jpql.append(" AND dr.taskRole = :role");
+            params.put("role", condition.getRole());
+        }
+        jpql.append(")");
+        
+        if (condition.getStatus() != null) {
+            jpql.append(" AND d.status = :status");
+            params.put("status", condition.getStatus());
+        }
+        if (condition.getTemplateId() != null) {
+            jpql.append(" AND d.template.id = :templateId");
+            params.put("templateId", condition.getTemplateId());
+        }
+        if (condition.hasCursor()) {
+            jpql.append(" AND (d.createdAt < :cursorCreatedAt OR (d.createdAt = :cursorCreatedAt AND d.id < :cursorId))");
+            params.put("cursorCreatedAt", condition.getCursorCreatedAt());
+            params.put("cursorId", condition.getCursorId());
+        }
+        jpql.append(" ORDER BY d.createdAt DESC, d.id DESC");
+        
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+    
+    @Override
+    public long countUpTo(DocumentSearchCondition condition, int cap) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT count(*) FROM (SELECT 1 FROM documents d WHERE EXISTS (" +
+                "SELECT 1 FROM documents_role dr WHERE dr.document_id = d.id AND dr.assigned_user_id = :userId");
+        params.put("userId", condition.getUserId());
+        
+        if (condition.getRole() != null) {
+            sql.append(" AND dr.task_role = :role");
+            params.put("role", condition.getRole().name());
+        }
+        sql.append(")");
+        
+        if (condition.getStatus() != null) {
+            sql.append(" AND d.status = :status");
+            params.put("status", condition.getStatus().name());
+        }
+        if (condition.getTemplateId() != null) {
+            sql.append(" AND d.template_id = :templateId");
+            params.put("templateId", condition.getTemplateId());
+        }
+        sql.append(" LIMIT :cap) limited");
+        params.put("cap", cap);
+        
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,12 +16,23 @@ public interface DocumentRoleRepository extends JpaRepository<DocumentRole, Long
     
     List<DocumentRole> findByDocumentId(Long documentId);
     
+    boolean existsByDocumentIdAndAssignedUserId(Long documentId, UUID userId);
+    
+    long countByDocumentIdAndTaskRole(Long documentId, DocumentRole.TaskRole taskRole);
+    
     @Query("SELECT dr FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.taskRole = :taskRole")
     Optional<DocumentRole> findByDocumentAndRole(@Param("documentId") Long documentId, @Param("taskRole") DocumentRole.TaskRole taskRole);
     
     @Query("SELECT dr FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.assignedUser.id = :userId")
     Optional<DocumentRole> findByDocumentAndUser(@Param("documentId") Long documentId, @Param("userId") UUID userId);
     
+    @Query("SELECT dr.taskRole FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.assignedUser.id = :userId")
+    List<DocumentRole.TaskRole> findRolesByDocumentAndUser(@Param("documentId") Long documentId, @Param("userId") UUID userId);
+    
+    // 일괄 처리 권한 확인 - 주어진 문서 중 사용자가 해당 역할을 가진 문서 ID
+    @Query("SELECT DISTINCT dr.document.id FROM DocumentRole dr WHERE dr.document.id IN :documentIds AND dr.assignedUser.id = :userId AND dr.taskRole IN :taskRoles")
+    List<Long> findDocumentIdsWithRoles(@Param("documentIds") Collection<Long> documentIds, @Param("userId") UUID userId, @Param("taskRoles") Collection<DocumentRole.TaskRole> taskRoles);
+    
     @Query("SELECT dr FROM DocumentRole dr WHERE dr.document.id = :documentId AND dr.assignedUser.id = :userId AND dr.taskRole = :taskRole")
     Optional<DocumentRole> findByDocumentAndUserAndRole(@Param("documentId") Long documentId, @Param("userId") UUID userId, @Param("taskRole") DocumentRole.TaskRole taskRole);
 } 
\ No newline at end of file
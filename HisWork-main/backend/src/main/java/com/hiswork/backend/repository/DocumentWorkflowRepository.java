@@ -0,0 +1,148 @@
+package com.hiswork.backend.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiswork.backend.domain.DocumentTransition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 문서 상태 전이 - 상태 조건부 UPDATE와 작업 로그 INSERT를 한 문장(CTE)으로 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentWorkflowRepository {
+
+    // 승인 초기화 - approvals를 비우고 승인한 검토자의 서명도 data.signatures에서 제거 (SET 절의 approvals는 변경 전 값)
+    private static final String RESET_APPROVALS =
+            "approvals = '{}'::jsonb, data = CASE WHEN jsonb_typeof(data -> 'signatures') = 'object' " +
+            "THEN jsonb_set(data, '{signatures}', (data -> 'signatures') - ARRAY(SELECT jsonb_object_keys(approvals))) " +
+            "ELSE data END";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param signatureKey 검토자 키(이메일) - 승인 시 data.signatures와 approvals 항목의 키
+     * @param signatureReference 승인 시 data.signatures[signatureKey]에 추가할 서명 참조 (없으면 null)
+     * @return 전이 후 버전, 상태/버전 조건이 맞지 않으면 empty
+     */
+    public Optional<Long> applyTransition(Long documentId,
+                                          DocumentTransition transition,
+                                          UUID actorId,
+                                          String reason,
+                                          Long expectedVersion,
+                                          String signatureKey,
+                                          JsonNode signatureReference) {
+        MapSqlParameterSource params = transitionParams(transition, actorId, reason, signatureKey, signatureReference)
+                .addValue("id", documentId);
+        String condition = "id = :id";
+        if (expectedVersion != null) {
+            condition += " AND version = :expectedVersion";
+            params.addValue("expectedVersion", expectedVersion);
+        }
+
+        String sql = transitionSql(transition, condition, signatureReference != null) + "SELECT version FROM updated";
+        return jdbcTemplate.queryForList(sql, params, Long.class).stream().findFirst();
+    }
+
+    /**
+     * 여러 문서를 한 문장으로 전이 - 같은 서명 참조를 공유하고 문서마다 작업 로그 한 건
+     * @return 전이된 문서 ID -> 전이 후 버전 (상태 조건이 맞지 않은 문서는 제외)
+     */
+    public Map<Long, Long> applyTransitionBatch(Collection<Long> documentIds,
+                                                DocumentTransition transition,
+                                                UUID actorId,
+                                                String reason,
+                                                String signatureKey,
+                                                JsonNode signatureReference) {
+        MapSqlParameterSource params = transitionParams(transition, actorId, reason, signatureKey, signatureReference)
+                .addValue("ids", documentIds);
+
+        String sql = transitionSql(transition, "id IN (:ids)", signatureReference != null) + "SELECT id, version FROM updated";
+        Map<Long, Long> versions = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            versions.put(rs.getLong(1), rs.getLong(2));
+        });
+        return versions;
+    }
+
+    /**
+     * 문서가 다시 편집 단계로 돌아갈 때 이전 승인과 승인 서명 초기화 (승인이 없으면 변경하지 않음)
+     * @return 초기화 여부
+     */
+    public boolean resetApprovals(Long documentId) {
+        return jdbcTemplate.update("UPDATE documents SET version = version + 1, updated_at = now(), " + RESET_APPROVALS +
+                " WHERE id = :id AND approvals <> '{}'::jsonb", new MapSqlParameterSource("id", documentId)) > 0;
+    }
+
+    private MapSqlParameterSource transitionParams(DocumentTransition transition, UUID actorId, String reason,
+                                                   String signatureKey, JsonNode signatureReference) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", transition.getFrom().stream().map(Enum::name).toList())
+                .addValue("to", transition.getTo().name())
+                .addValue("actorId", actorId)
+                .addValue("logStatus", transition.getLogStatus().name())
+                .addValue("reason", reason, Types.VARCHAR);
+        params.addValue("signatureKey", signatureKey);
+        if (signatureReference != null) {
+            params.addValue("signature", toJson(signatureReference));
+        }
+        return params;
+    }
+
+    /**
+     * 상태 조건부 UPDATE + 작업 로그 INSERT (updated CTE에 id, version 반환)
+     * 승인은 approvals에 자신의 항목({approvedAt, signatureId})만 병합하고, 마지막 필요 승인일 때만 완료 상태로 변경
+     * 거부는 이전 승인과 승인 서명을 초기화 (다시 검토 요청되면 처음부터 승인)
+     * (같은 행의 동시 UPDATE는 갱신된 행 기준으로 조건을 다시 평가하므로 승인이 유실되거나 중복되지 않음)
+     */
+    private String transitionSql(DocumentTransition transition, String condition, boolean withSignature) {
+        boolean approval = transition == DocumentTransition.APPROVE;
+        StringBuilder sql = new StringBuilder("WITH updated AS (UPDATE documents SET version = version + 1, updated_at = now()");
+        if (approval) {
+            sql.append(", status = CASE WHEN (SELECT count(*) FROM jsonb_object_keys(approvals)) + 1 >= required_approvals ")
+               .append("THEN :to ELSE status END")
+               .append(", approvals = approvals || jsonb_build_object(CAST(:signatureKey AS text), jsonb_build_object('approvedAt', now())")
+               // 서명 참조는 approvals에도 기록 - 서명 이미지는 서버만 쓰는 이 값으로만 조회 (data.signatures는 표시용)
+               .append(withSignature ? " || CAST(:signature AS jsonb))" : ")");
+        } else {
+            sql.append(", status = :to");
+        }
+        if (transition == DocumentTransition.REJECT) {
+            sql.append(", ").append(RESET_APPROVALS);
+        }
+        if (withSignature) {
+            sql.append(", data = jsonb_set(COALESCE(data, '{}'::jsonb), '{signatures}', ")
+               .append("CASE WHEN jsonb_typeof(data -> 'signatures') = 'object' THEN data -> 'signatures' ELSE '{}'::jsonb END ")
+               .append("|| jsonb_build_object(CAST(:signatureKey AS text), CAST(:signature AS jsonb)), true)");
+        }
+        sql.append(" WHERE ").append(condition).append(" AND status IN (:from) AND archived = false");
+        if (approval) {
+            sql.append(" AND NOT jsonb_exists(approvals, CAST(:signatureKey AS text))");
+        }
+        sql.append(" RETURNING id, version), ")
+           // id는 엔티티와 같은 시퀀스에서 할당 (pooled 할당 블록의 상한값이므로 Hibernate가 쓰는 범위와 겹치지 않음)
+           .append("logged AS (INSERT INTO tasks_log (id, document_id, assigned_by_id, assigned_user_id, status, rejection_reason, created_at, updated_at, completed_at) ")
+           .append("SELECT nextval('tasks_log_seq'), id, :actorId, :actorId, :logStatus, :reason, now(), now(), now() FROM updated) ");
+        return sql.toString();
+    }
+
+    private String toJson(JsonNode value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("서명 참조 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
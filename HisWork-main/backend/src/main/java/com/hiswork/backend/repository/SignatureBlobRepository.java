@@ -0,0 +1,27 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.domain.SignatureBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SignatureBlobRepository extends JpaRepository<SignatureBlob, Long> {
+    
+    Optional<SignatureBlob> findFirstByOwnerIdAndSha256(UUID ownerId, String sha256);
+    
+    // 서명 소유자 확인용 (이미지 바이트는 읽지 않음)
+    @Query("SELECT s.id AS id, s.owner.email AS ownerEmail FROM SignatureBlob s WHERE s.id IN :ids")
+    List<SignatureOwner> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+    
+    interface SignatureOwner {
+        Long getId();
+        String getOwnerEmail();
+    }
+}
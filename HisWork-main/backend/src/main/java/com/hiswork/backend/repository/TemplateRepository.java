@@ -1,6 +1,7 @@
 package com.hiswork.backend.repository;
 
 import com.hiswork.backend.domain.Template;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,7 +9,14 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface TemplateRepository extends JpaRepository<Template, Long> {
+public interface TemplateRepository extends JpaRepository<Template, Long>, TemplateRepositoryCustom {
+    
+    // 응답 변환(TemplateResponse)에서 작성자를 사용하므로 함께 로딩 (open-in-view 비활성)
+    // 단건 조회는 2차 캐시를 거치도록 그래프 없이 조회하고 서비스에서 작성자를 초기화
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    List<Template> findAll();
+    
     List<Template> findByCreatedById(UUID createdById);
     
     List<Template> findByIsPublicTrue();
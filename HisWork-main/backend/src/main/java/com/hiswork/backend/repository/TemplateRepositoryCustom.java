@@ -0,0 +1,14 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.dto.TemplateSearchCondition;
+import com.hiswork.backend.dto.TemplateSummary;
+
+import java.util.List;
+
+public interface TemplateRepositoryCustom {
+    
+    /**
+     * 조건에 맞는 템플릿 요약을 id DESC 순으로 limit 건 조회 (키셋 페이지네이션, 좌표 필드 TEXT는 읽지 않음)
+     */
+    List<TemplateSummary> findSummaries(TemplateSearchCondition condition, int limit);
+}
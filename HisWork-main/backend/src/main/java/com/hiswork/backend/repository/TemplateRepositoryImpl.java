@@ -0,0 +1,46 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.dto.TemplateSearchCondition;
+import com.hiswork.backend.dto.TemplateSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿 목록 동적 조회 - 목록에 필요한 컬럼만 프로젝션하고 주어진 필터만 조건에 포함
+ */
+@RequiredArgsConstructor
+public class TemplateRepositoryImpl implements TemplateRepositoryCustom {
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public List<TemplateSummary> findSummaries(TemplateSearchCondition condition, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT new com.hiswork.backend.dto.TemplateSummary(" +
+                "t.id, t.name, t.pdfImagePath, t.fieldCount, u.name, t.isPublic, t.createdAt) " +
+                "FROM Template t JOIN t.createdBy u WHERE 1 = 1");
+        
+        if (condition.getIsPublic() != null) {
+            jpql.append(" AND t.isPublic = :isPublic");
+            params.put("isPublic", condition.getIsPublic());
+        }
+        if (condition.getOwnerId() != null) {
+            jpql.append(" AND t.createdBy.id = :ownerId");
+            params.put("ownerId", condition.getOwnerId());
+        }
+        if (condition.getCursorId() != null) {
+            jpql.append(" AND t.id < :cursorId");
+            params.put("cursorId", condition.getCursorId());
+        }
+        jpql.append(" ORDER BY t.id DESC");
+        
+        TypedQuery<TemplateSummary> query = entityManager.createQuery(jpql.toString(), TemplateSummary.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,20 @@
+package com.hiswork.backend.repository;
+
+import com.hiswork.backend.domain.TemplateVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TemplateVersionRepository extends JpaRepository<TemplateVersion, Long> {
+    
+    List<TemplateVersion> findByTemplateIdOrderByVersionNumberDesc(Long templateId);
+    
+    // 템플릿의 현재 버전 (새 문서가 참조할 버전)
+    @Query("SELECT v FROM Template t JOIN t.currentVersion v WHERE t.id = :templateId")
+    Optional<TemplateVersion> findCurrentByTemplateId(@Param("templateId") Long templateId);
+}
@@ -1,16 +1,24 @@
 package com.hiswork.backend.repository;
 
 import com.hiswork.backend.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+    // 요청마다 현재 사용자를 찾으므로 조회 캐시 사용 (users 테이블 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     
+    List<User> findByEmailIn(Collection<String> emails);
+    
     List<User> findByEmailContainingIgnoreCaseOrNameContainingIgnoreCase(String email, String name);
 } 
\ No newline at end of file
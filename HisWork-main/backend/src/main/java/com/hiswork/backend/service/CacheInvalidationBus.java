@@ -0,0 +1,205 @@
+package com.hiswork.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 노드 간 캐시 무효화 (PostgreSQL LISTEN/NOTIFY)
+ * - 발행: 현재 트랜잭션 안에서 pg_notify 실행 → 커밋될 때만 전달되고 롤백되면 버려짐
+ * - 수신: 전용 커넥션으로 LISTEN 후 "엔티티 유형 + 키"에 등록된 핸들러로 로컬 캐시 제거 (자기 노드 발행은 무시)
+ * - 수신 커넥션이 끊기면 재연결하고, 끊긴 동안 놓친 알림이 있을 수 있으므로 등록된 캐시를 모두 비움
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String SEPARATOR = "|";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+    private final List<Runnable> flushHandlers = new CopyOnWriteArrayList<>();
+
+    @Value("${app.cache-invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache-invalidation.channel:hiswork_cache}")
+    private String channel;
+
+    @Value("${app.cache-invalidation.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    @Value("${app.cache-invalidation.reconnect-delay-ms:1000}")
+    private long reconnectDelayMs;
+
+    @Value("${app.cache-invalidation.max-reconnect-delay-ms:30000}")
+    private long maxReconnectDelayMs;
+
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+
+    /**
+     * 엔티티 유형별 무효화 핸들러 등록 (키 하나를 로컬 캐시에서 제거)
+     */
+    public void register(String type, Consumer<String> evictor) {
+        handlers.put(type, evictor);
+    }
+
+    /**
+     * 로컬 캐시 전체 제거 핸들러 등록 (수신 재연결 시 호출)
+     */
+    public void registerFlush(Runnable flush) {
+        flushHandlers.add(flush);
+    }
+
+    /**
+     * 무효화 발행 - 트랜잭션 안이면 커밋 시 전달, 밖이면 즉시 전달
+     */
+    public void publish(String type, Object key) {
+        if (!enabled) {
+            return;
+        }
+        String payload = nodeId + SEPARATOR + type + SEPARATOR + key;
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)::text", String.class, channel, payload);
+        } catch (Exception e) {
+            // 알림 실패로 쓰기 자체를 실패시키지 않음 (다른 노드는 TTL/재연결 전체 제거에 의존)
+            log.warn("캐시 무효화 발행 실패 - {}: {} ({})", type, key, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("노드 간 캐시 무효화 비활성화");
+            return;
+        }
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalStateException("잘못된 캐시 무효화 채널 이름: " + channel);
+        }
+
+        running = true;
+        Thread thread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+        listenerThread = thread;
+        log.info("노드 간 캐시 무효화 수신 시작 - 채널: {}, 노드: {}", channel, nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        long delay = reconnectDelayMs;
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection connection = openConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    // 끊긴 동안의 알림은 전달되지 않으므로 로컬 캐시를 모두 비움
+                    flushAll();
+                    log.info("캐시 무효화 수신 재연결 - 로컬 캐시 전체 제거");
+                }
+                delay = reconnectDelayMs;
+                reconnecting = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                reconnecting = true;
+                log.warn("캐시 무효화 수신 연결 끊김 - {}ms 후 재연결: {}", delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                delay = Math.min(delay * 2, maxReconnectDelayMs);
+            }
+        }
+        log.info("노드 간 캐시 무효화 수신 종료");
+    }
+
+    /**
+     * 풀 커넥션을 계속 점유하지 않도록 같은 접속 정보로 전용 커넥션 사용
+     */
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+
+    private void handle(String payload) {
+        String[] parts = payload.split(Pattern.quote(SEPARATOR), 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        Consumer<String> evictor = handlers.get(parts[1]);
+        if (evictor == null) {
+            return;
+        }
+        try {
+            evictor.accept(parts[2]);
+            log.debug("캐시 무효화 수신 - {}: {}", parts[1], parts[2]);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 처리 실패 - {}: {} ({})", parts[1], parts[2], e.getMessage());
+        }
+    }
+
+    private void flushAll() {
+        for (Runnable flush : flushHandlers) {
+            try {
+                flush.run();
+            } catch (Exception e) {
+                log.warn("로컬 캐시 전체 제거 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
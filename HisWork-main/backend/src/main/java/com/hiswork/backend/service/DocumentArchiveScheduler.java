@@ -0,0 +1,74 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 완료/반려 문서를 주기적으로 콜드 스토리지로 이동
+ * 배치 사이에 대기하여 운영 트래픽에 주는 부하를 제한
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentArchiveScheduler {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentArchiveService documentArchiveService;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.min-age-days:30}")
+    private int minAgeDays;
+
+    @Value("${app.archive.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.archive.throttle-ms:500}")
+    private long throttleMs;
+
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public void archiveTerminalDocuments() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minusDays(minAgeDays);
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> documentIds = documentRepository.findArchivableIds(
+                    DocumentArchiveService.ARCHIVABLE_STATUSES, before, PageRequest.of(0, batchSize));
+            if (documentIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                total += documentArchiveService.archiveBatch(documentIds);
+            } catch (Exception e) {
+                log.error("문서 아카이브 배치 실패 - 문서 ID: {}", documentIds, e);
+                break;
+            }
+
+            try {
+                Thread.sleep(throttleMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        log.info("문서 아카이브 스케줄 종료 - 총 {}건 이동", total);
+    }
+}
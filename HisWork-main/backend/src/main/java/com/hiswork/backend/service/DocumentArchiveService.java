@@ -0,0 +1,166 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.DocumentArchive;
+import com.hiswork.backend.repository.DocumentArchiveRepository;
+import com.hiswork.backend.repository.DocumentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 완료/반려 문서의 콜드 스토리지 이동 및 조회 시 복원
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class DocumentArchiveService {
+
+    public static final Set<Document.DocumentStatus> ARCHIVABLE_STATUSES =
+            EnumSet.of(Document.DocumentStatus.COMPLETED, Document.DocumentStatus.REJECTED);
+
+    private final DocumentRepository documentRepository;
+    private final DocumentArchiveRepository documentArchiveRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * 문서 묶음을 압축하여 아카이브 테이블로 이동 (한 트랜잭션)
+     * @return 실제로 이동된 문서 수
+     */
+    public int archiveBatch(List<Long> documentIds) {
+        int archivedCount = 0;
+        long originalBytes = 0;
+        long compressedBytes = 0;
+
+        for (Document document : documentRepository.findAllById(documentIds)) {
+            // 조회 이후 상태가 바뀌었을 수 있으므로 다시 확인
+            if (document.isArchived() || !ARCHIVABLE_STATUSES.contains(document.getStatus())) {
+                continue;
+            }
+
+            byte[] json = serialize(document.getData());
+            byte[] compressed = compress(json);
+
+            documentArchiveRepository.save(DocumentArchive.builder()
+                    .documentId(document.getId())
+                    .compressedData(compressed)
+                    .originalSize(json.length)
+                    .compressedSize(compressed.length)
+                    .build());
+
+            document.setData(null);
+            document.setArchived(true);
+
+            archivedCount++;
+            originalBytes += json.length;
+            compressedBytes += compressed.length;
+        }
+
+        log.info("문서 아카이브 완료 - {}건, 원본: {} bytes, 압축: {} bytes", archivedCount, originalBytes, compressedBytes);
+        return archivedCount;
+    }
+
+    /**
+     * 아카이브된 문서의 data 복원 (읽기 전용으로 표시하여 documents 테이블에 다시 기록되지 않도록 함)
+     */
+    @Transactional(readOnly = true)
+    public Document rehydrate(Document document) {
+        if (document == null || !document.isArchived() || document.getData() != null) {
+            return document;
+        }
+
+        documentArchiveRepository.findById(document.getId())
+                .ifPresentOrElse(
+                        archive -> restoreData(document, archive),
+                        () -> log.warn("아카이브 데이터 없음 - 문서 ID: {}", document.getId()));
+        return document;
+    }
+
+    /**
+     * 여러 문서를 한 번의 조회로 복원
+     */
+    @Transactional(readOnly = true)
+    public List<Document> rehydrateAll(List<Document> documents) {
+        List<Long> archivedIds = documents.stream()
+                .filter(document -> document.isArchived() && document.getData() == null)
+                .map(Document::getId)
+                .collect(Collectors.toList());
+
+        if (archivedIds.isEmpty()) {
+            return documents;
+        }
+
+        Map<Long, DocumentArchive> archives = documentArchiveRepository.findAllById(archivedIds).stream()
+                .collect(Collectors.toMap(DocumentArchive::getDocumentId, Function.identity()));
+
+        for (Document document : documents) {
+            DocumentArchive archive = archives.get(document.getId());
+            if (archive != null) {
+                restoreData(document, archive);
+            }
+        }
+        return documents;
+    }
+
+    private void restoreData(Document document, DocumentArchive archive) {
+        if (entityManager.contains(document)) {
+            entityManager.unwrap(Session.class).setReadOnly(document, true);
+        }
+        document.setData(deserialize(decompress(archive.getCompressedData())));
+    }
+
+    private byte[] serialize(JsonNode data) {
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("문서 데이터 직렬화 실패", e);
+        }
+    }
+
+    private JsonNode deserialize(byte[] json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 데이터 역직렬화 실패", e);
+        }
+    }
+
+    private byte[] compress(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] decompress(byte[] data) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 압축 해제 실패", e);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.TasksLog;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.exception.DocumentVersionConflictException;
+import com.hiswork.backend.repository.DocumentDataPatchRepository;
+import com.hiswork.backend.repository.DocumentRepository;
+import com.hiswork.backend.repository.TasksLogRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 문서 자동 저장 버퍼
+ * - 짧은 간격으로 들어오는 저장 요청을 문서별로 메모리에서 합친 뒤 시간/횟수 기준으로 한 번에 기록
+ * - 워크플로 전환(편집 완료, 검토 요청 등) 전에는 반드시 flush
+ * - 작업 로그는 편집 세션(문서+사용자)마다 한 건만 남기고 이후 저장 시 갱신 시각만 변경
+ * - 같은 문서의 등록/기록은 문서별 잠금으로 직렬화 (기록한 트랜잭션이 끝날 때까지 잠금 유지)
+ * - 편집은 커밋이 확인된 뒤에만 버퍼에서 제거
+ * 기본은 WRITE_THROUGH (편집마다 즉시 기록, 작업 로그만 세션 단위로 합침)
+ * BUFFERED는 단일 노드 전용 - 버퍼와 논리 버전이 노드별 메모리에 있어 여러 노드에서는 버전/ETag가 어긋나고,
+ * 비정상 종료 시 응답을 받은 편집이 최대 max-delay-ms 만큼 유실될 수 있음
+ */
+@Component
+@Slf4j
+public class DocumentAutosaveBuffer {
+
+    public enum Durability {
+        BUFFERED,       // 메모리에서 합친 뒤 지연 기록
+        WRITE_THROUGH   // 즉시 기록 (작업 로그만 세션 단위로 합침)
+    }
+
+    private final DocumentRepository documentRepository;
+    private final DocumentDataPatchRepository documentDataPatchRepository;
+    private final TasksLogRepository tasksLogRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, PendingEdit> pendingEdits = new ConcurrentHashMap<>();
+    private final Map<SessionKey, EditSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, DocumentLock> documentLocks = new ConcurrentHashMap<>();
+
+    @Value("${app.autosave.durability:WRITE_THROUGH}")
+    private Durability durability;
+
+    @Value("${app.autosave.flush-interval-ms:2000}")
+    private long flushIntervalMs;
+
+    @Value("${app.autosave.max-delay-ms:10000}")
+    private long maxDelayMs;
+
+    @Value("${app.autosave.max-pending-edits:20}")
+    private int maxPendingEdits;
+
+    @Value("${app.autosave.session-idle-ms:600000}")
+    private long sessionIdleMs;
+
+    @Value("${app.autosave.lock-timeout-ms:5000}")
+    private long lockTimeoutMs;
+
+    public DocumentAutosaveBuffer(DocumentRepository documentRepository,
+                                  DocumentDataPatchRepository documentDataPatchRepository,
+                                  TasksLogRepository tasksLogRepository,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.documentDataPatchRepository = documentDataPatchRepository;
+        this.tasksLogRepository = tasksLogRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 저장 요청 등록 - 같은 문서의 이전 미기록 편집은 최신 data로 대체
+     * 편집마다 논리 버전을 1씩 올리며, expectedVersion이 주어지면 현재 논리 버전과 비교
+     * data.signatures는 서버만 기록하므로 요청 값에서 제외 (기록 시 DB 값 유지)
+     * @return 이 편집이 반영된 문서 버전
+     */
+    public long submit(Long documentId, JsonNode requestData, User user, Long expectedVersion) {
+        JsonNode data = withoutSignatures(requestData);
+        if (durability == Durability.WRITE_THROUGH) {
+            boolean releasedOnCompletion = lockUntilCompletion(documentId);
+            try {
+                long currentVersion = loadVersion(documentId);
+                checkVersion(expectedVersion, currentVersion);
+                // 다른 노드의 기록이 먼저 커밋되었으면 버전 조건에 걸려 반영되지 않음
+                Boolean written = transactionTemplate.execute(status -> write(documentId, data, user, currentVersion + 1));
+                if (!Boolean.TRUE.equals(written)) {
+                    throw new DocumentVersionConflictException(loadVersion(documentId));
+                }
+                return currentVersion + 1;
+            } finally {
+                if (!releasedOnCompletion) {
+                    unlock(documentId);
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        PendingEdit edit;
+        // 문서 잠금 안에서는 버퍼 항목을 바꾸는 다른 스레드가 없으므로 맵 잠금 없이 DB 버전을 조회
+        lock(documentId);
+        try {
+            PendingEdit current = pendingEdits.get(documentId);
+            long currentVersion = current != null ? current.version : loadVersion(documentId);
+            checkVersion(expectedVersion, currentVersion);
+            edit = current == null
+                    ? new PendingEdit(data, user, currentVersion + 1, now)
+                    : current.merge(data, user, now);
+            pendingEdits.put(documentId, edit);
+        } finally {
+            unlock(documentId);
+        }
+
+        if (edit.edits >= maxPendingEdits) {
+            flush(documentId);
+        }
+        return edit.version;
+    }
+
+    /**
+     * 미기록 편집을 고려한 현재 문서 버전
+     */
+    public long currentVersion(Long documentId) {
+        PendingEdit edit = pendingEdits.get(documentId);
+        return edit != null ? edit.version : loadVersion(documentId);
+    }
+
+    /**
+     * 문서의 미기록 편집을 즉시 기록 (호출한 트랜잭션에 참여)
+     * 호출한 트랜잭션이 끝날 때까지 문서 잠금을 유지하여, 같은 트랜잭션의 후속 버전 증가(상태 전이, 패치)가
+     * 커밋되기 전에 새 편집이 같은 버전을 받지 않도록 함
+     * 편집은 커밋된 뒤에만 버퍼에서 제거하고, 롤백되면 그대로 남음
+     * @return 기록할 편집이 있었는지 여부
+     */
+    public boolean flush(Long documentId) {
+        boolean releasedOnCompletion = lockUntilCompletion(documentId);
+        try {
+            PendingEdit edit = pendingEdits.get(documentId);
+            if (edit == null) {
+                return false;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        pendingEdits.remove(documentId, edit);
+                    }
+                });
+                write(documentId, edit.data, edit.user, edit.version);
+            });
+
+            log.debug("자동 저장 기록 - 문서 ID: {}, 합쳐진 편집 수: {}", documentId, edit.edits);
+            return true;
+        } finally {
+            if (!releasedOnCompletion) {
+                unlock(documentId);
+            }
+        }
+    }
+
+    /**
+     * 워크플로 전환 시 호출 - 미기록 편집을 기록하고 편집 세션 종료
+     */
+    public void completeSession(Long documentId) {
+        flush(documentId);
+        sessions.keySet().removeIf(key -> key.documentId().equals(documentId));
+    }
+
+    /**
+     * 조회 응답에 아직 기록되지 않은 최신 data 반영 (엔티티는 읽기 전용으로 표시하여 DB에 다시 기록되지 않도록 함)
+     */
+    public Document overlayPending(Document document) {
+        PendingEdit edit = document != null ? pendingEdits.get(document.getId()) : null;
+        if (edit == null) {
+            return document;
+        }
+
+        if (entityManager.contains(document)) {
+            entityManager.unwrap(Session.class).setReadOnly(document, true);
+        }
+        JsonNode signatures = document.getData() != null ? document.getData().get(SignatureService.SIGNATURES_FIELD) : null;
+        if (signatures != null && edit.data instanceof ObjectNode pendingData) {
+            // 조회한 행의 서명 유지 (버퍼의 data에는 서명이 없음)
+            ObjectNode merged = pendingData.deepCopy();
+            merged.set(SignatureService.SIGNATURES_FIELD, signatures);
+            document.setData(merged);
+        } else {
+            document.setData(edit.data);
+        }
+        document.setVersion(edit.version);
+        return document;
+    }
+
+    @Scheduled(fixedDelayString = "${app.autosave.flush-interval-ms:2000}")
+    public void flushDue() {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<Long, PendingEdit> entry : new ArrayList<>(pendingEdits.entrySet())) {
+            PendingEdit edit = entry.getValue();
+            if (now - edit.lastEditAt >= flushIntervalMs || now - edit.firstEditAt >= maxDelayMs) {
+                try {
+                    flush(entry.getKey());
+                } catch (Exception e) {
+                    log.error("자동 저장 기록 실패 - 문서 ID: {}", entry.getKey(), e);
+                }
+            }
+        }
+
+        sessions.values().removeIf(session -> now - session.lastActivityAt > sessionIdleMs);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        for (Long documentId : new ArrayList<>(pendingEdits.keySet())) {
+            try {
+                flush(documentId);
+            } catch (Exception e) {
+                log.error("종료 시 자동 저장 기록 실패 - 문서 ID: {}", documentId, e);
+            }
+        }
+    }
+
+    /**
+     * 문서를 읽지 않고 data와 버전만 갱신 (DB 버전이 이 편집보다 낮을 때만 - 늦게 도착한 이전 편집이 덮어쓰지 않도록)
+     * @return 기록 여부
+     */
+    private boolean write(Long documentId, JsonNode data, User user, long version) {
+        if (!documentDataPatchRepository.writeData(documentId, data, version)) {
+            log.warn("자동 저장 기록 건너뜀 (문서 없음/보관됨 또는 같거나 더 최신 버전이 이미 기록됨) - 문서 ID: {}, 버전: {}",
+                    documentId, version);
+            return false;
+        }
+        recordEditSession(documentRepository.getReferenceById(documentId), user);
+        return true;
+    }
+
+    /**
+     * 문서 잠금 획득 (같은 스레드에서 재진입 가능, 대기 시간 초과 시 예외)
+     */
+    private void lock(Long documentId) {
+        DocumentLock documentLock = documentLocks.compute(documentId, (id, current) -> {
+            DocumentLock lock = current != null ? current : new DocumentLock();
+            lock.holds++;
+            return lock;
+        });
+
+        boolean acquired = false;
+        try {
+            acquired = documentLock.lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!acquired) {
+            release(documentId);
+            throw new RuntimeException("다른 작업이 문서를 저장하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void unlock(Long documentId) {
+        documentLocks.get(documentId).lock.unlock();
+        release(documentId);
+    }
+
+    /**
+     * 문서 잠금 획득 - 진행 중인 트랜잭션이 있으면 그 트랜잭션이 끝날 때 해제
+     * @return 트랜잭션 종료 시 해제되는지 여부 (false면 호출한 쪽에서 unlock)
+     */
+    private boolean lockUntilCompletion(Long documentId) {
+        lock(documentId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(documentId);
+            }
+        });
+        return true;
+    }
+
+    // 잠금을 기다리거나 보유한 스레드가 없으면 맵에서 제거
+    private void release(Long documentId) {
+        documentLocks.computeIfPresent(documentId, (id, lock) -> --lock.holds == 0 ? null : lock);
+    }
+
+    private JsonNode withoutSignatures(JsonNode data) {
+        if (data instanceof ObjectNode object && object.has(SignatureService.SIGNATURES_FIELD)) {
+            ObjectNode copy = object.deepCopy();
+            copy.remove(SignatureService.SIGNATURES_FIELD);
+            return copy;
+        }
+        return data;
+    }
+
+    private long loadVersion(Long documentId) {
+        return documentRepository.findVersionById(documentId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+    }
+
+    private void checkVersion(Long expectedVersion, long currentVersion) {
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new DocumentVersionConflictException(currentVersion);
+        }
+    }
+
+    /**
+     * 편집 세션당 작업 로그 한 건 - 세션 중 저장은 기존 로그의 갱신 시각만 변경
+     */
+    public void recordEditSession(Document document, User user) {
+        SessionKey key = new SessionKey(document.getId(), user.getId());
+        long now = System.currentTimeMillis();
+        EditSession session = sessions.get(key);
+
+        if (session != null && now - session.lastActivityAt <= sessionIdleMs) {
+            TasksLog sessionLog = tasksLogRepository.findById(session.logId).orElse(null);
+            if (sessionLog != null) {
+                sessionLog.setUpdatedAt(LocalDateTime.now());
+                session.lastActivityAt = now;
+                return;
+            }
+        }
+
+        TasksLog sessionLog = tasksLogRepository.save(TasksLog.builder()
+                .document(document)
+                .assignedBy(user)
+                .assignedUser(user)
+                .status(TasksLog.TaskStatus.IN_PROGRESS)
+                .build());
+        sessions.put(key, new EditSession(sessionLog.getId(), now));
+    }
+
+    private static class PendingEdit {
+        private final JsonNode data;
+        private final User user;
+        private final long version;
+        private final int edits;
+        private final long firstEditAt;
+        private final long lastEditAt;
+
+        PendingEdit(JsonNode data, User user, long version, long now) {
+            this(data, user, version, 1, now, now);
+        }
+
+        private PendingEdit(JsonNode data, User user, long version, int edits, long firstEditAt, long lastEditAt) {
+            this.data = data;
+            this.user = user;
+            this.version = version;
+            this.edits = edits;
+            this.firstEditAt = firstEditAt;
+            this.lastEditAt = lastEditAt;
+        }
+
+        PendingEdit merge(JsonNode newData, User newUser, long now) {
+            return new PendingEdit(newData, newUser, version + 1, edits + 1, firstEditAt, now);
+        }
+    }
+
+    private static class DocumentLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int holds; // documentLocks.compute 안에서만 변경
+    }
+
+    private static class EditSession {
+        private final Long logId;
+        private volatile long lastActivityAt;
+
+        EditSession(Long logId, long lastActivityAt) {
+            this.logId = logId;
+            this.lastActivityAt = lastActivityAt;
+        }
+    }
+
+    private record SessionKey(Long documentId, UUID userId) {
+    }
+}
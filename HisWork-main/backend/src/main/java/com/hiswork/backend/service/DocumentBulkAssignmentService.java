@@ -0,0 +1,105 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.TemplateVersion;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.BulkAssignmentResult;
+import com.hiswork.backend.repository.TemplateRepository;
+import com.hiswork.backend.repository.TemplateVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 템플릿 하나를 여러 편집자에게 일괄 할당
+ * - 템플릿 초기 data와 기본 비밀번호 해시는 요청당 한 번만 생성
+ * - chunk-size 단위로 한 트랜잭션씩 배치 저장하고, 커밋된 묶음의 결과를 바로 전달
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentBulkAssignmentService {
+
+    private static final String DEFAULT_PASSWORD = "defaultPassword123";
+
+    private final DocumentService documentService;
+    private final TemplateRepository templateRepository;
+    private final TemplateVersionRepository templateVersionRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${app.bulk-assignment.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.bulk-assignment.max-editors:2000}")
+    private int maxEditors;
+
+    /**
+     * 스트리밍 전에 요청 검증 (실패하면 응답 본문을 쓰기 전에 오류 반환)
+     */
+    public TemplateVersion validate(Long templateId, List<String> editorEmails) {
+        if (editorEmails.size() > maxEditors) {
+            throw new RuntimeException("한 번에 할당할 수 있는 편집자는 최대 " + maxEditors + "명입니다");
+        }
+        if (!templateRepository.existsById(templateId)) {
+            throw new RuntimeException("Template not found");
+        }
+        return templateVersionRepository.findCurrentByTemplateId(templateId)
+                .orElseThrow(() -> new RuntimeException("템플릿 버전이 없습니다 - 템플릿 ID: " + templateId));
+    }
+
+    /**
+     * 일괄 할당 실행
+     * @param listener 묶음이 커밋(또는 실패)될 때마다 해당 편집자들의 결과를 받음
+     */
+    public void assign(TemplateVersion templateVersion, User creator, List<String> editorEmails,
+                       Consumer<List<BulkAssignmentResult>> listener) {
+        Long templateId = templateVersion.getTemplate().getId();
+        ObjectNode initialData = documentService.initializeDocumentData(templateVersion);
+        String defaultPasswordHash = passwordEncoder.encode(DEFAULT_PASSWORD);
+
+        // 형식 오류, 중복은 저장 없이 바로 실패 처리
+        List<BulkAssignmentResult> rejected = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String rawEmail : editorEmails) {
+            String email = rawEmail != null ? rawEmail.trim() : "";
+            if (email.isEmpty() || !email.contains("@")) {
+                rejected.add(BulkAssignmentResult.failed(rawEmail, "올바르지 않은 이메일 형식입니다"));
+            } else if (!seen.add(email)) {
+                rejected.add(BulkAssignmentResult.failed(email, "중복된 이메일입니다"));
+            } else {
+                emails.add(email);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            listener.accept(rejected);
+        }
+
+        int created = 0;
+        for (int from = 0; from < emails.size(); from += chunkSize) {
+            List<String> chunk = emails.subList(from, Math.min(from + chunkSize, emails.size()));
+            List<BulkAssignmentResult> results;
+            try {
+                results = documentService.createDocumentsForEditors(
+                        templateVersion, initialData, creator, chunk, defaultPasswordHash);
+                created += results.size();
+            } catch (Exception e) {
+                log.error("일괄 할당 묶음 실패 - 템플릿 ID: {}, 편집자: {}", templateId, chunk, e);
+                results = chunk.stream()
+                        .map(email -> BulkAssignmentResult.failed(email, "문서 생성 실패: " + e.getMessage()))
+                        .toList();
+            }
+            listener.accept(results);
+        }
+
+        log.info("일괄 할당 완료 - 템플릿 ID: {}, 요청: {}명, 생성: {}건", templateId, editorEmails.size(), created);
+    }
+}
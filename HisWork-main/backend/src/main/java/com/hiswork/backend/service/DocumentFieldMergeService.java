@@ -0,0 +1,203 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.DocumentFieldUpdateRequest;
+import com.hiswork.backend.dto.DocumentFieldUpdateRequest.FieldChange;
+import com.hiswork.backend.dto.DocumentFieldUpdateResponse;
+import com.hiswork.backend.dto.DocumentFieldUpdateResponse.FieldConflict;
+import com.hiswork.backend.repository.DocumentDataPatchRepository;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.LockedData;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.Operation;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.OperationType;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.PatchResult;
+import com.hiswork.backend.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 필드 단위 동시 편집
+ * - data.fieldVersions에 필드(coordinateData 필드, 표 셀)별 버전을 두고 저장마다 해당 필드만 증가
+ * - 서로 다른 필드를 고친 저장은 서버에서 병합하고, 같은 필드를 다른 사용자가 먼저 고친 경우만 충돌로 반환
+ * - 문서 행은 병합 계산 동안만 잠그므로 재시도 없이 순서대로 반영됨
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class DocumentFieldMergeService {
+
+    public static final String FIELD_VERSIONS = "fieldVersions";
+    private static final String COORDINATE_DATA = "coordinateData";
+    private static final String TABLE_DATA = "table data";
+
+    private static final int MAX_CHANGES = 500;
+
+    private final DocumentDataPatchRepository documentDataPatchRepository;
+    private final DocumentRepository documentRepository;
+    private final DocumentPermissionService documentPermissionService;
+    private final DocumentAutosaveBuffer documentAutosaveBuffer;
+    private final ObjectMapper objectMapper;
+
+    public DocumentFieldUpdateResponse updateFields(Long documentId, DocumentFieldUpdateRequest request, User user) {
+        List<FieldChange> changes = request.getChanges();
+        if (changes.size() > MAX_CHANGES) {
+            throw new RuntimeException("한 번에 저장할 수 있는 필드는 최대 " + MAX_CHANGES + "개입니다");
+        }
+        for (FieldChange change : changes) {
+            if (change.isTableCell() ? change.getRow() == null || change.getColumn() == null : change.getFieldId() == null) {
+                throw new RuntimeException("필드 ID 또는 표 위치(tableId, row, column)가 필요합니다");
+            }
+        }
+
+        Set<DocumentRole.TaskRole> roles = documentPermissionService.getRoles(documentId, user);
+        if (!roles.contains(DocumentRole.TaskRole.CREATOR) && !roles.contains(DocumentRole.TaskRole.EDITOR)) {
+            if (roles.isEmpty() && documentRepository.findStatusById(documentId).isEmpty()) {
+                throw new RuntimeException("Document not found");
+            }
+            throw new RuntimeException("문서를 수정할 권한이 없습니다");
+        }
+
+        // 버퍼에 남은 전체 data가 병합 결과를 덮어쓰지 않도록 먼저 기록
+        documentAutosaveBuffer.flush(documentId);
+
+        LockedData locked = documentDataPatchRepository.lockData(documentId)
+                .orElseThrow(() -> new RuntimeException("수정할 수 없는 문서입니다 (없거나 보관된 문서)"));
+        JsonNode data = locked.getData();
+        JsonNode fieldVersions = data.path(FIELD_VERSIONS);
+        JsonNode coordinateData = data.path(COORDINATE_DATA);
+        ArrayNode tableData = data.path(TABLE_DATA).isArray()
+                ? ((ArrayNode) data.get(TABLE_DATA)).deepCopy()
+                : objectMapper.createArrayNode();
+
+        ObjectNode coordinateValues = objectMapper.createObjectNode();
+        ObjectNode newVersions = objectMapper.createObjectNode();
+        Map<String, Long> applied = new LinkedHashMap<>();
+        List<FieldConflict> conflicts = new ArrayList<>();
+        boolean tableChanged = false;
+
+        for (FieldChange change : lastChangePerField(changes)) {
+            String key = change.key();
+            long currentVersion = fieldVersions.path(key).asLong(0);
+            JsonNode currentValue = change.isTableCell()
+                    ? findCellValue(tableData, change)
+                    : coordinateData.get(change.getFieldId());
+
+            // 같은 값이면 다른 사용자가 먼저 저장했어도 충돌로 보지 않음
+            if (change.getBaseVersion() != null && change.getBaseVersion() != currentVersion
+                    && !Objects.equals(currentValue, change.getValue())) {
+                conflicts.add(FieldConflict.builder()
+                        .field(key)
+                        .currentVersion(currentVersion)
+                        .currentValue(currentValue)
+                        .build());
+                continue;
+            }
+
+            if (change.isTableCell()) {
+                setCell(tableData, change);
+                tableChanged = true;
+            } else {
+                coordinateValues.set(change.getFieldId(), change.getValue());
+            }
+            newVersions.put(key, currentVersion + 1);
+            applied.put(key, currentVersion + 1);
+        }
+
+        if (applied.isEmpty()) {
+            return DocumentFieldUpdateResponse.builder()
+                    .version(locked.getVersion())
+                    .applied(applied)
+                    .conflicts(conflicts)
+                    .build();
+        }
+
+        // 변경된 필드와 필드 버전만 기록 (표 데이터는 배열 전체를 교체)
+        List<Operation> operations = new ArrayList<>();
+        if (!coordinateValues.isEmpty()) {
+            operations.add(new Operation(OperationType.MERGE, List.of(COORDINATE_DATA), null, coordinateValues));
+        }
+        if (tableChanged) {
+            operations.add(new Operation(OperationType.SET, List.of(TABLE_DATA), null, tableData));
+        }
+        operations.add(new Operation(OperationType.MERGE, List.of(FIELD_VERSIONS), null, newVersions));
+
+        PatchResult result = documentDataPatchRepository.apply(documentId, operations, locked.getVersion())
+                .orElseThrow(() -> new RuntimeException("필드 저장 실패 - 문서 ID: " + documentId));
+
+        documentAutosaveBuffer.recordEditSession(documentRepository.getReferenceById(documentId), user);
+
+        log.debug("필드 단위 저장 - 문서 ID: {}, 반영: {}개, 충돌: {}개", documentId, applied.size(), conflicts.size());
+        return DocumentFieldUpdateResponse.builder()
+                .version(result.getVersion())
+                .applied(applied)
+                .conflicts(conflicts)
+                .build();
+    }
+
+    /**
+     * 한 요청에 같은 필드가 여러 번 있으면 마지막 변경만 반영 (필드 버전은 한 번만 증가)
+     */
+    private Collection<FieldChange> lastChangePerField(List<FieldChange> changes) {
+        Map<String, FieldChange> lastChanges = new LinkedHashMap<>();
+        for (FieldChange change : changes) {
+            lastChanges.put(change.key(), change);
+        }
+        return lastChanges.values();
+    }
+
+    private JsonNode findCellValue(ArrayNode tableData, FieldChange change) {
+        int index = findCell(tableData, change);
+        return index >= 0 ? tableData.get(index).get("value") : null;
+    }
+
+    /**
+     * 표 셀 저장 - 기존 셀을 교체하고, 값이 비어 있으면 제거 (프론트엔드 저장 방식과 동일)
+     */
+    private void setCell(ArrayNode tableData, FieldChange change) {
+        int index = findCell(tableData, change);
+        if (index >= 0) {
+            tableData.remove(index);
+        }
+        JsonNode value = change.getValue();
+        if (value == null || value.isNull() || (value.isTextual() && value.asText().isEmpty())) {
+            return;
+        }
+
+        ObjectNode cell = objectMapper.createObjectNode();
+        cell.put("tableId", change.getTableId());
+        cell.put("location_row", change.getRow());
+        cell.put("location_column", change.getColumn());
+        cell.set("value", value);
+        if (change.getFontSize() != null) {
+            cell.put("font-size", change.getFontSize());
+        }
+        tableData.add(cell);
+    }
+
+    private int findCell(ArrayNode tableData, FieldChange change) {
+        for (int i = 0; i < tableData.size(); i++) {
+            JsonNode cell = tableData.get(i);
+            if (change.getTableId().equals(cell.path("tableId").asText(null))
+                    && change.getRow().equals(cell.path("location_row").asText(null))
+                    && change.getColumn().equals(cell.path("location_column").asText(null))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
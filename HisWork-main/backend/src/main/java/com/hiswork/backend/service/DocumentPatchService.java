@@ -0,0 +1,243 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.exception.DocumentPatchFailedException;
+import com.hiswork.backend.exception.DocumentVersionConflictException;
+import com.hiswork.backend.repository.DocumentDataPatchRepository;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.Operation;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.OperationType;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.PatchResult;
+import com.hiswork.backend.repository.DocumentRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문서 data 부분 수정 (JSON Patch / JSON Merge Patch)
+ * 전체 data를 읽어 다시 쓰지 않고 변경된 경로만 DB에서 적용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class DocumentPatchService {
+
+    public static final String JSON_PATCH_MEDIA_TYPE = "application/json-patch+json";
+    public static final String MERGE_PATCH_MEDIA_TYPE = "application/merge-patch+json";
+
+    private static final int MAX_OPERATIONS = 200;
+
+    private final DocumentDataPatchRepository documentDataPatchRepository;
+    private final DocumentRepository documentRepository;
+    private final DocumentPermissionService documentPermissionService;
+    private final DocumentAutosaveBuffer documentAutosaveBuffer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 패치 적용
+     * @param jsonPatch true이면 RFC 6902 JSON Patch, false이면 RFC 7386 Merge Patch
+     * @param expectedVersion If-Match 버전 (null이면 확인하지 않음)
+     */
+    public PatchResult patchDocumentData(Long documentId, JsonNode patch, boolean jsonPatch, User user, Long expectedVersion) {
+        if (documentRepository.findStatusById(documentId).isEmpty()) {
+            throw new RuntimeException("Document not found");
+        }
+
+        // 권한 확인
+        Set<DocumentRole.TaskRole> roles = documentPermissionService.getRoles(documentId, user);
+        if (!roles.contains(DocumentRole.TaskRole.CREATOR) && !roles.contains(DocumentRole.TaskRole.EDITOR)) {
+            throw new RuntimeException("문서를 수정할 권한이 없습니다");
+        }
+
+        // 버퍼에 남은 전체 data가 나중에 패치 결과를 덮어쓰지 않도록 먼저 기록
+        documentAutosaveBuffer.flush(documentId);
+        
+        List<Operation> operations = jsonPatch ? fromJsonPatch(patch) : fromMergePatch(patch);
+        if (operations.isEmpty()) {
+            throw new RuntimeException("적용할 패치 연산이 없습니다");
+        }
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new RuntimeException("패치 연산이 너무 많습니다 (최대 " + MAX_OPERATIONS + "개)");
+        }
+        rejectSignatureWrites(operations);
+
+        PatchResult result = documentDataPatchRepository.apply(documentId, operations, expectedVersion)
+                .orElseThrow(() -> patchFailure(documentId, expectedVersion));
+
+        recordWriteAmplification(patch, result.getDataSize());
+
+        // 작업 로그는 편집 세션당 한 건
+        documentAutosaveBuffer.recordEditSession(documentRepository.getReferenceById(documentId), user);
+
+        return result;
+    }
+
+    /**
+     * 패치가 적용되지 않은 이유 확인
+     */
+    private RuntimeException patchFailure(Long documentId, Long expectedVersion) {
+        Long currentVersion = documentRepository.findVersionById(documentId).orElse(null);
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            return new DocumentVersionConflictException(currentVersion);
+        }
+        if (documentRepository.findArchivedById(documentId).orElse(true)) {
+            return new RuntimeException("수정할 수 없는 문서입니다 (보관된 문서)");
+        }
+        return new DocumentPatchFailedException();
+    }
+
+    /**
+     * data.signatures는 승인 시 서버만 기록 - 이 경로를 바꾸는 연산은 거부
+     * (루트 전체 교체 등 나머지 경우도 저장소에서 현재 서명을 유지)
+     */
+    private void rejectSignatureWrites(List<Operation> operations) {
+        for (Operation operation : operations) {
+            boolean writes = operation.getType() != OperationType.TEST && (operation.getPath().isEmpty()
+                    ? operation.getValue() != null && operation.getValue().has(SignatureService.SIGNATURES_FIELD)
+                    : isSignaturesPath(operation.getPath()));
+            boolean movesFrom = operation.getType() == OperationType.MOVE && isSignaturesPath(operation.getFrom());
+            if (writes || movesFrom) {
+                throw new RuntimeException("서명(signatures)은 문서 수정으로 변경할 수 없습니다");
+            }
+        }
+    }
+
+    private boolean isSignaturesPath(List<String> path) {
+        return path != null && !path.isEmpty() && SignatureService.SIGNATURES_FIELD.equals(path.get(0));
+    }
+
+    /**
+     * 요청 패치 크기 대비 실제로 다시 기록된 jsonb 크기
+     */
+    private void recordWriteAmplification(JsonNode patch, int storedBytes) {
+        int patchBytes = patch.toString().getBytes(StandardCharsets.UTF_8).length;
+
+        DistributionSummary.builder("document.patch.request.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(patchBytes);
+        DistributionSummary.builder("document.patch.stored.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(storedBytes);
+        DistributionSummary.builder("document.patch.write.amplification")
+                .description("저장된 data 크기 / 패치 크기")
+                .register(meterRegistry)
+                .record((double) storedBytes / Math.max(1, patchBytes));
+
+        log.debug("문서 패치 - 패치: {} bytes, 저장: {} bytes", patchBytes, storedBytes);
+    }
+
+    private List<Operation> fromJsonPatch(JsonNode patch) {
+        if (!patch.isArray()) {
+            throw new RuntimeException("JSON Patch는 연산 배열이어야 합니다");
+        }
+
+        List<Operation> operations = new ArrayList<>();
+        for (JsonNode node : patch) {
+            String op = node.path("op").asText();
+            List<String> path = parsePointer(node.path("path").asText(null));
+            JsonNode value = node.get("value");
+
+            switch (op) {
+                case "add" -> operations.add(new Operation(OperationType.ADD, path, null, requireValue(value, op)));
+                case "replace" -> operations.add(new Operation(OperationType.REPLACE, path, null, requireValue(value, op)));
+                case "remove" -> operations.add(new Operation(OperationType.REMOVE, path, null, null));
+                case "copy" -> operations.add(new Operation(OperationType.COPY, path, parsePointer(node.path("from").asText(null)), null));
+                case "move" -> operations.add(new Operation(OperationType.MOVE, path, parsePointer(node.path("from").asText(null)), null));
+                case "test" -> operations.add(new Operation(OperationType.TEST, path, null, requireValue(value, op)));
+                default -> throw new RuntimeException("지원하지 않는 JSON Patch 연산입니다: " + op);
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Merge Patch를 경로별 연산으로 변환 - 상위 객체를 먼저 병합하여 하위 경로가 항상 존재하도록 함
+     */
+    private List<Operation> fromMergePatch(JsonNode patch) {
+        List<Operation> operations = new ArrayList<>();
+        if (!patch.isObject()) {
+            // 객체가 아니면 문서 전체를 대체 (RFC 7386)
+            operations.add(new Operation(OperationType.SET, List.of(), null, patch));
+            return operations;
+        }
+        collectMergeOperations(new ArrayList<>(), patch, operations);
+        return operations;
+    }
+
+    private void collectMergeOperations(List<String> path, JsonNode patch, List<Operation> operations) {
+        ObjectNode shallow = objectMapper.createObjectNode();
+        List<Map.Entry<String, JsonNode>> nested = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                removed.add(field.getKey());
+            } else if (field.getValue().isObject()) {
+                nested.add(field);
+            } else {
+                shallow.set(field.getKey(), field.getValue());
+            }
+        }
+
+        operations.add(new Operation(OperationType.MERGE, List.copyOf(path), null, shallow));
+
+        for (String key : removed) {
+            // 없는 키의 null은 무시 (RFC 7386)
+            operations.add(new Operation(OperationType.UNSET, append(path, key), null, null));
+        }
+        for (Map.Entry<String, JsonNode> field : nested) {
+            collectMergeOperations(append(path, field.getKey()), field.getValue(), operations);
+        }
+    }
+
+    /**
+     * JSON Pointer(RFC 6901) → 경로 토큰
+     */
+    private List<String> parsePointer(String pointer) {
+        if (pointer == null) {
+            throw new RuntimeException("JSON Patch 연산에 path/from이 없습니다");
+        }
+        if (pointer.isEmpty()) {
+            return List.of();
+        }
+        if (!pointer.startsWith("/")) {
+            throw new RuntimeException("잘못된 JSON Pointer입니다: " + pointer);
+        }
+        return Arrays.stream(pointer.substring(1).split("/", -1))
+                .map(token -> token.replace("~1", "/").replace("~0", "~"))
+                .toList();
+    }
+
+    private JsonNode requireValue(JsonNode value, String op) {
+        if (value == null) {
+            throw new RuntimeException("'" + op + "' 연산에는 value가 필요합니다");
+        }
+        return value;
+    }
+
+    private List<String> append(List<String> path, String key) {
+        List<String> child = new ArrayList<>(path);
+        child.add(key);
+        return child;
+    }
+}
@@ -0,0 +1,137 @@
+package com.hiswork.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.repository.DocumentRoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 문서별 사용자 역할 조회
+ * - 한 번의 쿼리로 사용자의 모든 역할을 읽고 트랜잭션 동안 재사용
+ * - 자주 폴링되는 조회(can-review)용 짧은 TTL 캐시 제공, 역할 변경 시 커밋 후 무효화 (다른 노드에는 CacheInvalidationBus로 전달)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentPermissionService {
+
+    private static final Object TRANSACTION_MEMO_KEY = DocumentPermissionService.class.getName() + ".memo";
+    private static final String INVALIDATION_TYPE = "DocumentRole";
+
+    private final DocumentRoleRepository documentRoleRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private Cache<RoleKey, Set<DocumentRole.TaskRole>> roleCache;
+
+    @Value("${app.permission.role-cache-ttl-ms:5000}")
+    private long roleCacheTtlMs;
+
+    @Value("${app.permission.role-cache-max-size:10000}")
+    private long roleCacheMaxSize;
+
+    @PostConstruct
+    public void registerInvalidation() {
+        // 만료 항목은 Caffeine이 정리하고, 크기 제한으로 메모리 상한 유지
+        roleCache = Caffeine.newBuilder()
+                .maximumSize(roleCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(roleCacheTtlMs))
+                .build();
+        cacheInvalidationBus.register(INVALIDATION_TYPE, key -> evictCache(Long.valueOf(key)));
+        cacheInvalidationBus.registerFlush(roleCache::invalidateAll);
+    }
+
+    /**
+     * 사용자의 문서 역할 (트랜잭션 범위에서 메모이즈)
+     */
+    public Set<DocumentRole.TaskRole> getRoles(Long documentId, User user) {
+        RoleKey key = new RoleKey(documentId, user.getId());
+        Map<RoleKey, Set<DocumentRole.TaskRole>> memo = transactionMemo();
+        if (memo == null) {
+            return loadRoles(key);
+        }
+        return memo.computeIfAbsent(key, this::loadRoles);
+    }
+
+    /**
+     * 사용자의 문서 역할 (짧은 TTL 캐시) - 권한 판단이 아닌 폴링성 조회에만 사용
+     */
+    public Set<DocumentRole.TaskRole> getCachedRoles(Long documentId, User user) {
+        return roleCache.get(new RoleKey(documentId, user.getId()), this::loadRoles);
+    }
+
+    public boolean hasRole(Long documentId, User user, DocumentRole.TaskRole role) {
+        return getRoles(documentId, user).contains(role);
+    }
+
+    /**
+     * 문서 역할 변경 시 호출 - 트랜잭션 메모는 즉시, TTL 캐시는 커밋 후 제거
+     */
+    public void evict(Long documentId) {
+        Map<RoleKey, Set<DocumentRole.TaskRole>> memo = transactionMemo();
+        if (memo != null) {
+            memo.keySet().removeIf(key -> key.documentId().equals(documentId));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCache(documentId);
+                }
+            });
+        } else {
+            evictCache(documentId);
+        }
+        cacheInvalidationBus.publish(INVALIDATION_TYPE, documentId);
+    }
+
+    private void evictCache(Long documentId) {
+        roleCache.asMap().keySet().removeIf(key -> key.documentId().equals(documentId));
+    }
+
+    private Set<DocumentRole.TaskRole> loadRoles(RoleKey key) {
+        Set<DocumentRole.TaskRole> roles = EnumSet.noneOf(DocumentRole.TaskRole.class);
+        roles.addAll(documentRoleRepository.findRolesByDocumentAndUser(key.documentId(), key.userId()));
+        return Collections.unmodifiableSet(roles);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<RoleKey, Set<DocumentRole.TaskRole>> transactionMemo() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<RoleKey, Set<DocumentRole.TaskRole>> memo =
+                (Map<RoleKey, Set<DocumentRole.TaskRole>>) TransactionSynchronizationManager.getResource(TRANSACTION_MEMO_KEY);
+        if (memo == null) {
+            memo = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(TRANSACTION_MEMO_KEY, memo);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_MEMO_KEY);
+                }
+            });
+        }
+        return memo;
+    }
+
+    private record RoleKey(Long documentId, UUID userId) {
+    }
+}
@@ -2,27 +2,50 @@ package com.hiswork.backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.hiswork.backend.domain.Document;
 import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.DocumentTransition;
+import com.hiswork.backend.domain.SignatureBlob;
 import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.TemplateVersion;
 import com.hiswork.backend.domain.TasksLog;
 import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.BatchTransitionResult;
+import com.hiswork.backend.dto.BulkAssignmentResult;
+import com.hiswork.backend.dto.DocumentPageResponse;
+import com.hiswork.backend.dto.DocumentRenderSnapshot;
+import com.hiswork.backend.dto.DocumentResponse;
+import com.hiswork.backend.dto.DocumentSearchCondition;
 import com.hiswork.backend.dto.DocumentUpdateRequest;
+import com.hiswork.backend.exception.DocumentVersionConflictException;
+import com.hiswork.backend.repository.DocumentWorkflowRepository;
 import com.hiswork.backend.repository.DocumentRepository;
 import com.hiswork.backend.repository.DocumentRoleRepository;
 import com.hiswork.backend.repository.TemplateRepository;
+import com.hiswork.backend.repository.TemplateVersionRepository;
 import com.hiswork.backend.repository.TasksLogRepository;
 import com.hiswork.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,191 +58,231 @@ public class DocumentService {
     
     private final DocumentRepository documentRepository;
     private final TemplateRepository templateRepository;
+    private final TemplateVersionRepository templateVersionRepository;
     private final DocumentRoleRepository documentRoleRepository;
     private final TasksLogRepository tasksLogRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
     private final PasswordEncoder passwordEncoder;
+    private final DocumentArchiveService documentArchiveService;
+    private final SignatureService signatureService;
+    private final DocumentPermissionService documentPermissionService;
+    private final DocumentAutosaveBuffer documentAutosaveBuffer;
+    private final DocumentWorkflowRepository documentWorkflowRepository;
+    private final TemplateDefinitionCache templateDefinitionCache;
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int COUNT_ESTIMATE_CAP = 1000;
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final String ALREADY_APPROVED_MESSAGE = "이미 승인한 문서입니다";
     
     public Document createDocument(Long templateId, User creator, String editorEmail) {
         Template template = templateRepository.findById(templateId)
                 .orElseThrow(() -> new RuntimeException("Template not found"));
+        TemplateVersion templateVersion = currentVersion(template);
         
         // 새로운 구조와 기존 구조 모두 지원
-        ObjectNode initialData = initializeDocumentData(template);
+        ObjectNode initialData = initializeDocumentData(templateVersion);
         
         Document document = Document.builder()
                 .template(template)
+                .templateVersion(templateVersion)
                 .data(initialData)
                 .status(Document.DocumentStatus.DRAFT)
                 .build();
         
-        document = documentRepository.save(document);
+        // 역할은 문서에 cascade로 함께 저장하고, 작업 로그는 모아서 한 번에 저장 (시퀀스 ID + JDBC 배치)
+        List<TasksLog> taskLogs = new ArrayList<>();
         
         // 생성자 역할 할당
-        DocumentRole creatorRole = DocumentRole.builder()
+        document.getDocumentRoles().add(DocumentRole.builder()
                 .document(document)
                 .assignedUser(creator)
                 .taskRole(DocumentRole.TaskRole.CREATOR)
-                .build();
-        
-        documentRoleRepository.save(creatorRole);
+                .build());
         
         // 생성자 작업 로그
-        TasksLog creatorTask = TasksLog.builder()
+        taskLogs.add(TasksLog.builder()
                 .document(document)
                 .assignedBy(creator)
                 .assignedUser(creator)
                 .status(TasksLog.TaskStatus.COMPLETED)
                 .completedAt(LocalDateTime.now())
-                .build();
-        
-        tasksLogRepository.save(creatorTask);
+                .build());
         
         // 편집자가 지정된 경우 편집자 역할 할당
         if (editorEmail != null && !editorEmail.trim().isEmpty()) {
             User editor = getUserOrCreate(editorEmail, "Editor User");
             
-            DocumentRole editorRole = DocumentRole.builder()
+            document.getDocumentRoles().add(DocumentRole.builder()
                     .document(document)
                     .assignedUser(editor)
                     .taskRole(DocumentRole.TaskRole.EDITOR)
-                    .build();
-            
-            documentRoleRepository.save(editorRole);
+                    .build());
             
             // 편집자 작업 로그
-            TasksLog editorTask = TasksLog.builder()
+            taskLogs.add(TasksLog.builder()
                     .document(document)
                     .assignedBy(creator)
                     .assignedUser(editor)
                     .status(TasksLog.TaskStatus.PENDING)
-                    .build();
-            
-            tasksLogRepository.save(editorTask);
+                    .build());
             
             // 문서 상태를 EDITING으로 변경
             document.setStatus(Document.DocumentStatus.EDITING);
-            document = documentRepository.save(document);
         }
         
+        document = documentRepository.save(document);
+        tasksLogRepository.saveAll(taskLogs);
+        
         return document;
     }
     
-    private ObjectNode initializeDocumentData(Template template) {
-        ObjectNode data = objectMapper.createObjectNode();
-        
-        // 템플릿에서 coordinateFields 복사 (레거시 지원용)
-        if (template.getCoordinateFields() != null && !template.getCoordinateFields().trim().isEmpty()) {
-            try {
-                JsonNode coordinateFieldsJson = objectMapper.readTree(template.getCoordinateFields());
-                if (coordinateFieldsJson.isArray()) {
-                    // coordinateFields를 값만 빈 상태로 복사
-                    ArrayNode fieldsArray = objectMapper.createArrayNode();
-                    for (JsonNode field : coordinateFieldsJson) {
-                        ObjectNode fieldCopy = field.deepCopy();
-                        fieldCopy.put("value", ""); // 값은 빈 문자열로 초기화
-                        fieldsArray.add(fieldCopy);
-                    }
-                    data.set("coordinateFields", fieldsArray);
-                    log.info("문서 생성 시 템플릿의 coordinateFields 복사: {} 개 필드", fieldsArray.size());
-
-                    // 표 초기 필드 분리하여 보조 구조 생성
-                    ArrayNode tableInitFields = objectMapper.createArrayNode();
-                    for (JsonNode field : fieldsArray) {
-                        if (field.has("type") && "table".equals(field.get("type").asText())) {
-                            ObjectNode tableNode = objectMapper.createObjectNode();
-                            tableNode.put("type", "table");
-                            tableNode.put("tableId", field.has("tableId") ? field.get("tableId").asText() : field.get("id").asText());
-                            tableNode.put("x", field.get("x").asInt());
-                            tableNode.put("y", field.get("y").asInt());
-                            tableNode.put("height", field.get("height").asInt());
-                            tableNode.put("width", field.get("width").asInt());
-                            if (field.has("columns") && field.get("columns").isArray()) {
-                                tableNode.set("columns", field.get("columns").deepCopy());
-                            }
-                            tableInitFields.add(tableNode);
-                        }
-                    }
-                    if (tableInitFields.size() > 0) {
-                        data.set("table init Fields", tableInitFields);
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("템플릿 coordinateFields 파싱 실패: {}", e.getMessage());
+    /**
+     * 일괄 할당 한 묶음 처리 (한 트랜잭션) - 편집자마다 독립된 문서 생성
+     * 편집자는 IN 조회 한 번으로 찾고, 없는 사용자는 미리 인코딩한 기본 비밀번호로 함께 생성
+     * @param templateVersion 요청 시작 시점의 템플릿 버전 (요청 중 템플릿이 수정되어도 모든 문서가 같은 버전을 참조)
+     * @param initialData 템플릿 버전에서 한 번만 만든 초기 data (문서마다 복사)
+     */
+    public List<BulkAssignmentResult> createDocumentsForEditors(TemplateVersion templateVersion, ObjectNode initialData, User creator,
+                                                                List<String> editorEmails, String defaultPasswordHash) {
+        Long templateId = templateVersion.getTemplate().getId();
+        Template template = templateRepository.getReferenceById(templateId);
+        TemplateVersion versionReference = templateVersionRepository.getReferenceById(templateVersion.getId());
+        
+        Map<String, User> editors = userRepository.findByEmailIn(editorEmails).stream()
+                .collect(Collectors.toMap(User::getEmail, user -> user, (first, second) -> first));
+        
+        List<User> newUsers = new ArrayList<>();
+        for (String email : editorEmails) {
+            if (!editors.containsKey(email)) {
+                User newUser = User.builder()
+                        .name("Editor User")
+                        .email(email)
+                        .password(defaultPasswordHash)
+                        .position(User.Position.교직원)
+                        .role(User.Role.USER)
+                        .build();
+                newUsers.add(newUser);
+                editors.put(email, newUser);
             }
         }
+        userRepository.saveAll(newUsers);
+        
+        List<Document> documents = new ArrayList<>();
+        List<TasksLog> taskLogs = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        
+        for (String email : editorEmails) {
+            User editor = editors.get(email);
+            Document document = Document.builder()
+                    .template(template)
+                    .templateVersion(versionReference)
+                    .data(initialData.deepCopy())
+                    .status(Document.DocumentStatus.EDITING)
+                    .build();
+            
+            document.getDocumentRoles().add(DocumentRole.builder()
+                    .document(document)
+                    .assignedUser(creator)
+                    .taskRole(DocumentRole.TaskRole.CREATOR)
+                    .build());
+            document.getDocumentRoles().add(DocumentRole.builder()
+                    .document(document)
+                    .assignedUser(editor)
+                    .taskRole(DocumentRole.TaskRole.EDITOR)
+                    .build());
+            
+            taskLogs.add(TasksLog.builder()
+                    .document(document)
+                    .assignedBy(creator)
+                    .assignedUser(creator)
+                    .status(TasksLog.TaskStatus.COMPLETED)
+                    .completedAt(now)
+                    .build());
+            taskLogs.add(TasksLog.builder()
+                    .document(document)
+                    .assignedBy(creator)
+                    .assignedUser(editor)
+                    .status(TasksLog.TaskStatus.PENDING)
+                    .build());
+            
+            documents.add(document);
+        }
         
-        return data;
+        documentRepository.saveAll(documents);
+        tasksLogRepository.saveAll(taskLogs);
+        documentRepository.flush();
+        
+        List<BulkAssignmentResult> results = new ArrayList<>();
+        for (int i = 0; i < editorEmails.size(); i++) {
+            results.add(BulkAssignmentResult.created(editorEmails.get(i), documents.get(i).getId()));
+        }
+        
+        log.info("일괄 할당 묶음 처리 - 템플릿 ID: {}, 문서: {}건, 신규 사용자: {}명", templateId, documents.size(), newUsers.size());
+        return results;
+    }
+    
+    /**
+     * 새 문서의 초기 data - 템플릿 버전의 정의는 캐시에서 가져오고 미리 만든 초기 data를 복사
+     */
+    ObjectNode initializeDocumentData(TemplateVersion templateVersion) {
+        try {
+            return templateDefinitionCache.get(templateVersion).newDocumentData();
+        } catch (Exception e) {
+            log.warn("템플릿 coordinateFields 해석 실패: {}", e.getMessage());
+            return objectMapper.createObjectNode();
+        }
     }
     
     public Document updateDocumentData(Long documentId, DocumentUpdateRequest request, User user) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found"));
-        
-        // 권한 확인
-        if (!isCreator(document, user) && !isEditor(document, user)) {
+        return updateDocumentData(documentId, request, user, null);
+    }
+    
+    /**
+     * 문서 데이터 저장 - expectedVersion(If-Match)이 현재 버전과 다르면 DocumentVersionConflictException
+     */
+    public Document updateDocumentData(Long documentId, DocumentUpdateRequest request, User user, Long expectedVersion) {
+        // 권한 확인 (버퍼 기록이 먼저 반영되도록 문서 엔티티는 저장 후에 조회)
+        Set<DocumentRole.TaskRole> roles = documentPermissionService.getRoles(documentId, user);
+        if (!roles.contains(DocumentRole.TaskRole.CREATOR) && !roles.contains(DocumentRole.TaskRole.EDITOR)) {
             throw new RuntimeException("문서를 수정할 권한이 없습니다");
         }
         
-        // 문서 데이터 업데이트
-        document.setData(request.getData());
-        document = documentRepository.save(document);
+        // 문서 데이터는 자동 저장 버퍼에서 합쳐서 기록 (작업 로그도 편집 세션당 한 건)
+        documentAutosaveBuffer.submit(documentId, request.getData(), user, expectedVersion);
         
-        // 작업 로그 추가
-        TasksLog updateLog = TasksLog.builder()
-                .document(document)
-                .assignedBy(user)
-                .assignedUser(user)
-                .status(TasksLog.TaskStatus.IN_PROGRESS)
-                .build();
-        
-        tasksLogRepository.save(updateLog);
-        
-        return document;
+        Document document = documentRepository.findWithDetailsById(documentId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+        return documentAutosaveBuffer.overlayPending(document);
     }
     
     public Document submitForReview(Long documentId, User user) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found"));
-        
-        // 편집자 또는 생성자만 검토 요청 가능
-        if (!isEditor(document, user) && !isCreator(document, user)) {
-            throw new RuntimeException("검토 요청할 권한이 없습니다");
-        }
-        
-        // 현재 상태가 EDITING이어야 함
-        if (document.getStatus() != Document.DocumentStatus.EDITING) {
-            throw new RuntimeException("문서가 편집 상태가 아닙니다");
-        }
-        
-        // 상태를 READY_FOR_REVIEW로 변경
-        document.setStatus(Document.DocumentStatus.READY_FOR_REVIEW);
-        document = documentRepository.save(document);
+        documentAutosaveBuffer.completeSession(documentId);
         
-        // 작업 로그 추가
-        TasksLog reviewRequestLog = TasksLog.builder()
-                .document(document)
-                .assignedBy(user)
-                .assignedUser(user)
-                .status(TasksLog.TaskStatus.COMPLETED)
-                .completedAt(LocalDateTime.now())
-                .build();
-        
-        tasksLogRepository.save(reviewRequestLog);
-        
-        return document;
+        // 편집자 또는 생성자만, EDITING 상태에서만 검토 요청 가능
+        return transition(documentId, user, DocumentTransition.SUBMIT_FOR_REVIEW, null, null, null);
     }
     
     public Document assignEditor(Long documentId, String editorEmail, User assignedBy) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found"));
+        documentAutosaveBuffer.flush(documentId);
         
         // 생성자만 편집자 할당 가능
-        if (!isCreator(document, assignedBy)) {
+        if (!isCreator(documentId, assignedBy)) {
+            if (documentRepository.findStatusById(documentId).isEmpty()) {
+                throw new RuntimeException("Document not found");
+            }
             throw new RuntimeException("편집자를 할당할 권한이 없습니다");
         }
         
+        // 다시 편집 단계로 돌아가므로 이전 승인과 승인 서명 초기화 (엔티티를 읽기 전에 SQL로 처리)
+        if (documentWorkflowRepository.resetApprovals(documentId)) {
+            log.info("이전 검토 승인 초기화 - 문서 ID: {}", documentId);
+        }
+        
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+        
         User editor = getUserOrCreate(editorEmail, "Editor User");
         
         // 기존 편집자 역할이 있다면 제거
@@ -234,6 +297,7 @@ public class DocumentService {
                 .build();
         
         documentRoleRepository.save(editorRole);
+        documentPermissionService.evict(documentId);
         
         // 작업 로그 추가
         TasksLog editorTask = TasksLog.builder()
@@ -249,22 +313,25 @@ public class DocumentService {
         document.setStatus(Document.DocumentStatus.EDITING);
         document = documentRepository.save(document);
         
-        return document;
+        return findWithDetails(documentId);
     }
     
     public Document assignReviewer(Long documentId, String reviewerEmail, User assignedBy) {
         log.info("검토자 할당 요청 - 문서 ID: {}, 검토자 이메일: {}, 요청자: {}", 
                 documentId, reviewerEmail, assignedBy.getEmail());
         
+        documentAutosaveBuffer.flush(documentId);
+        
         Document document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new RuntimeException("Document not found"));
         
         log.info("문서 정보 - ID: {}, 상태: {}, 생성자: {}", 
                 document.getId(), document.getStatus(), document.getTemplate().getCreatedBy().getEmail());
         
-        // 생성자 또는 편집자만 검토자 할당 가능
-        boolean isCreator = isCreator(document, assignedBy);
-        boolean isEditor = isEditor(document, assignedBy);
+        // 생성자 또는 편집자만 검토자 할당 가능 (역할은 한 번의 쿼리로 조회)
+        Set<DocumentRole.TaskRole> roles = documentPermissionService.getRoles(documentId, assignedBy);
+        boolean isCreator = roles.contains(DocumentRole.TaskRole.CREATOR);
+        boolean isEditor = roles.contains(DocumentRole.TaskRole.EDITOR);
         
         log.info("권한 확인 - 요청자: {}, 생성자 여부: {}, 편집자 여부: {}", 
                 assignedBy.getEmail(), isCreator, isEditor);
@@ -275,9 +342,11 @@ public class DocumentService {
         
         User reviewer = getUserOrCreate(reviewerEmail, "Reviewer User");
         
-        // 기존 검토자 역할이 있다면 제거
-        documentRoleRepository.findByDocumentAndRole(documentId, DocumentRole.TaskRole.REVIEWER)
-                .ifPresent(existingRole -> documentRoleRepository.delete(existingRole));
+        // 검토자는 여러 명 지정 가능 - 이미 검토자이면 그대로 둠
+        if (documentPermissionService.hasRole(documentId, reviewer, DocumentRole.TaskRole.REVIEWER)) {
+            log.info("이미 할당된 검토자 - 문서 ID: {}, 검토자: {}", documentId, reviewerEmail);
+            return findWithDetails(documentId);
+        }
         
         // 새로운 검토자 역할 할당
         DocumentRole reviewerRole = DocumentRole.builder()
@@ -287,6 +356,11 @@ public class DocumentService {
                 .build();
         
         documentRoleRepository.save(reviewerRole);
+        documentPermissionService.evict(documentId);
+        
+        // 할당된 모든 검토자가 승인해야 완료 (동시에 할당되면 문서 버전 충돌로 한쪽이 실패)
+        document.setRequiredApprovals((int) documentRoleRepository.countByDocumentIdAndTaskRole(
+                documentId, DocumentRole.TaskRole.REVIEWER));
         
         // 작업 로그 추가
         TasksLog reviewerTask = TasksLog.builder()
@@ -298,35 +372,125 @@ public class DocumentService {
         
         tasksLogRepository.save(reviewerTask);
         
-        return document;
+        return findWithDetails(documentId);
     }
     
     @Transactional(readOnly = true)
     public List<Document> getDocumentsByUser(User user) {
-        return documentRepository.findDocumentsByUserId(user.getId());
+        return documentArchiveService.rehydrateAll(documentRepository.findDocumentsByUserId(user.getId()));
+    }
+    
+    /**
+     * 문서 목록 키셋 페이지 조회 - 이력이 많아도 (createdAt, id) 인덱스 범위만 읽음
+     * 전체 건수는 첫 페이지에서만 상한(COUNT_ESTIMATE_CAP)까지 센다
+     */
+    @Transactional(readOnly = true)
+    public DocumentPageResponse getDocumentPage(User user, DocumentSearchCondition condition, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        condition.setUserId(user.getId());
+        
+        List<Long> ids = documentRepository.findPageIds(condition, pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            order.put(pageIds.get(i), i);
+        }
+        List<Document> documents = pageIds.isEmpty() ? List.of() : documentRepository.findWithDetailsByIdIn(pageIds).stream()
+                .sorted(Comparator.comparing(document -> order.get(document.getId())))
+                .collect(Collectors.toList());
+        documentArchiveService.rehydrateAll(documents);
+        
+        String nextCursor = null;
+        if (hasNext && !documents.isEmpty()) {
+            Document last = documents.get(documents.size() - 1);
+            nextCursor = DocumentPageResponse.encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        
+        Long totalEstimate = null;
+        boolean totalCapped = false;
+        if (!condition.hasCursor()) {
+            long count = documentRepository.countUpTo(condition, COUNT_ESTIMATE_CAP + 1);
+            totalCapped = count > COUNT_ESTIMATE_CAP;
+            totalEstimate = Math.min(count, COUNT_ESTIMATE_CAP);
+        }
+        
+        return DocumentPageResponse.builder()
+                .items(documents.stream().map(DocumentResponse::from).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalEstimate(totalEstimate)
+                .totalCapped(totalCapped)
+                .build();
     }
     
     @Transactional(readOnly = true)
     public Optional<Document> getDocumentById(Long id) {
-        return documentRepository.findById(id);
+        return documentRepository.findWithDetailsById(id)
+                .map(documentArchiveService::rehydrate)
+                .map(documentAutosaveBuffer::overlayPending);
     }
     
-    private boolean isCreator(Document document, User user) {
-        return documentRoleRepository.findByDocumentAndUserAndRole(
-                document.getId(), user.getId(), DocumentRole.TaskRole.CREATOR
-        ).isPresent();
+    /**
+     * PDF 렌더링용 스냅샷 - 렌더링은 트랜잭션이 끝난 뒤(커넥션 반납 후) 스냅샷으로만 수행
+     */
+    @Transactional(readOnly = true)
+    public Optional<DocumentRenderSnapshot> getRenderSnapshot(Long id) {
+        return getDocumentById(id).map(document -> DocumentRenderSnapshot.from(document, renderSignatures(document)));
     }
     
-    private boolean isEditor(Document document, User user) {
-        return documentRoleRepository.findByDocumentAndUserAndRole(
-                document.getId(), user.getId(), DocumentRole.TaskRole.EDITOR
-        ).isPresent();
+    /**
+     * 미기록 자동 저장분을 포함한 현재 문서 버전
+     * 충돌(409) 응답에 실리는 값이므로 복제본이 아닌 주 DB에서 읽음 (readOnly 트랜잭션은 복제본으로 라우팅됨)
+     */
+    @Transactional
+    public Long getDocumentVersion(Long documentId) {
+        return documentAutosaveBuffer.currentVersion(documentId);
     }
     
-    private boolean isReviewer(Document document, User user) {
-        return documentRoleRepository.findByDocumentAndUserAndRole(
-                document.getId(), user.getId(), DocumentRole.TaskRole.REVIEWER
-        ).isPresent();
+    @Transactional(readOnly = true)
+    public boolean hasAccess(Long documentId, User user) {
+        return documentRoleRepository.existsByDocumentIdAndAssignedUserId(documentId, user.getId());
+    }
+
+    /**
+     * 문서에 표시할 서명 (검토자 이메일 → 서명 ID) - 승인 기록과 서명 소유자로 확인된 참조만
+     * data.signatures는 클라이언트가 보낸 값이 섞일 수 있으므로 직접 신뢰하지 않음
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getSignatureReferences(Long documentId) {
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+        return signatureService.verifiedReferences(document.getApprovals(), signaturesOf(document.getData()));
+    }
+
+    /**
+     * 렌더링용 서명 - 확인된 참조와 레거시 base64 서명만 포함
+     */
+    private ObjectNode renderSignatures(Document document) {
+        JsonNode stored = signaturesOf(document.getData());
+        ObjectNode signatures = objectMapper.createObjectNode();
+        if (stored != null) {
+            stored.fields().forEachRemaining(entry -> {
+                if (entry.getValue().isTextual()) {
+                    signatures.set(entry.getKey(), entry.getValue());
+                }
+            });
+        }
+        signatureService.verifiedReferences(document.getApprovals(), stored)
+                .forEach((email, signatureId) -> signatures.set(email, objectMapper.createObjectNode()
+                        .put(SignatureService.SIGNATURE_ID_FIELD, signatureId)));
+        return signatures;
+    }
+
+    private JsonNode signaturesOf(JsonNode data) {
+        JsonNode signatures = data != null ? data.get(SignatureService.SIGNATURES_FIELD) : null;
+        return signatures != null && signatures.isObject() ? signatures : null;
+    }
+
+    private boolean isCreator(Long documentId, User user) {
+        return documentPermissionService.hasRole(documentId, user, DocumentRole.TaskRole.CREATOR);
     }
     
     private User getUserOrCreate(String email, String defaultName) {
@@ -344,120 +508,239 @@ public class DocumentService {
     }
     
     public Document completeEditing(Long documentId, User user) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found"));
+        documentAutosaveBuffer.completeSession(documentId);
         
-        // 편집자 또는 생성자만 편집 완료 가능
-        if (!isEditor(document, user) && !isCreator(document, user)) {
-            throw new RuntimeException("편집을 완료할 권한이 없습니다");
+        // 편집자 또는 생성자만, EDITING 상태에서만 편집 완료 가능
+        return transition(documentId, user, DocumentTransition.COMPLETE_EDITING, null, null, null);
+    }
+    
+    /**
+     * 문서 승인 - JSON으로 전달된 base64 서명 (기존 클라이언트 호환)
+     */
+    public Document approveDocument(Long documentId, User user, String signatureData, Long expectedVersion) {
+        return approveDocument(documentId, user, expectedVersion,
+                signatureData != null ? () -> signatureService.storeDataUrl(user, signatureData) : null);
+    }
+    
+    /**
+     * 문서 승인 - multipart로 업로드된 서명 이미지
+     */
+    public Document approveDocument(Long documentId, User user, MultipartFile signatureFile, Long expectedVersion) {
+        return approveDocument(documentId, user, expectedVersion,
+                signatureFile != null && !signatureFile.isEmpty() ? () -> signatureService.store(user, signatureFile) : null);
+    }
+    
+    /**
+     * 문서 승인 - 사용자에 등록된 서명을 재사용 (업로드/디코딩 없음)
+     */
+    public Document approveDocumentWithSavedSignature(Long documentId, User user, Long expectedVersion) {
+        return approveDocument(documentId, user, expectedVersion, () -> signatureService.getUserSignature(user));
+    }
+    
+    /**
+     * 승인은 문서를 읽어 수정하지 않고 상태/버전 조건부 UPDATE 한 번으로 처리
+     */
+    private Document approveDocument(Long documentId, User user, Long expectedVersion, Supplier<SignatureBlob> signatureSupplier) {
+        documentAutosaveBuffer.flush(documentId);
+        
+        // 서명을 저장하기 전에 권한과 상태를 미리 확인
+        checkTransitionAllowed(documentId, user, DocumentTransition.APPROVE);
+        Document.DocumentStatus status = documentRepository.findStatusById(documentId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+        if (!DocumentTransition.APPROVE.isAllowedFrom(status)) {
+            throw new RuntimeException(DocumentTransition.APPROVE.invalidStateMessage(status));
         }
-        
-        // 현재 상태가 EDITING이어야 함
-        if (document.getStatus() != Document.DocumentStatus.EDITING) {
-            throw new RuntimeException("문서가 편집 상태가 아닙니다");
+        if (hasApproved(documentId, user)) {
+            throw new RuntimeException(ALREADY_APPROVED_MESSAGE);
         }
         
-        // 상태를 READY_FOR_REVIEW로 변경
-        document.setStatus(Document.DocumentStatus.READY_FOR_REVIEW);
-        document = documentRepository.save(document);
-        
-        // 작업 로그 추가
-        TasksLog completeLog = TasksLog.builder()
-                .document(document)
-                .assignedBy(user)
-                .assignedUser(user)
-                .status(TasksLog.TaskStatus.COMPLETED)
-                .completedAt(LocalDateTime.now())
-                .build();
-        
-        tasksLogRepository.save(completeLog);
+        // 서명 이미지는 별도 저장소에 두고 문서 데이터에는 참조만 추가
+        JsonNode signatureReference = signatureSupplier != null
+                ? signatureService.toReference(signatureSupplier.get())
+                : null;
         
-        return document;
+        return transition(documentId, user, DocumentTransition.APPROVE, expectedVersion, null, signatureReference);
     }
     
-    public Document approveDocument(Long documentId, User user, String signatureData) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found"));
+    public Document rejectDocument(Long documentId, User user, String reason, Long expectedVersion) {
+        documentAutosaveBuffer.flush(documentId);
         
-        // 검토자만 승인 가능
-        if (!isReviewer(document, user)) {
-            throw new RuntimeException("문서를 승인할 권한이 없습니다");
+        // 검토자만, READY_FOR_REVIEW 상태에서만 거부 가능
+        return transition(documentId, user, DocumentTransition.REJECT, expectedVersion, reason, null);
+    }
+    
+    /**
+     * 일괄 승인 - 서명은 한 번만 저장하고 모든 문서가 같은 서명 참조를 사용
+     */
+    public List<BatchTransitionResult> approveDocuments(List<Long> documentIds, User user, String signatureData, boolean useSavedSignature) {
+        Supplier<SignatureBlob> signatureSupplier = useSavedSignature
+                ? () -> signatureService.getUserSignature(user)
+                : signatureData != null ? () -> signatureService.storeDataUrl(user, signatureData) : null;
+        return transitionAll(documentIds, user, DocumentTransition.APPROVE, null, signatureSupplier);
+    }
+    
+    /**
+     * 일괄 승인 - multipart로 업로드된 서명 이미지 (없으면 등록된 사용자 서명)
+     */
+    public List<BatchTransitionResult> approveDocuments(List<Long> documentIds, User user, MultipartFile signatureFile) {
+        Supplier<SignatureBlob> signatureSupplier = signatureFile != null && !signatureFile.isEmpty()
+                ? () -> signatureService.store(user, signatureFile)
+                : () -> signatureService.getUserSignature(user);
+        return transitionAll(documentIds, user, DocumentTransition.APPROVE, null, signatureSupplier);
+    }
+    
+    public List<BatchTransitionResult> rejectDocuments(List<Long> documentIds, User user, String reason) {
+        return transitionAll(documentIds, user, DocumentTransition.REJECT, reason, null);
+    }
+    
+    /**
+     * 일괄 상태 전이 - 권한 확인 1회, 상태 조회 1회, 전이 UPDATE 1회
+     * 문서별로 성공/실패를 반환하며 일부 문서가 실패해도 나머지는 전이
+     */
+    private List<BatchTransitionResult> transitionAll(List<Long> documentIds, User user, DocumentTransition transition,
+                                                      String reason, Supplier<SignatureBlob> signatureSupplier) {
+        List<Long> ids = documentIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new RuntimeException("처리할 문서가 없습니다");
         }
-        
-        // 현재 상태가 READY_FOR_REVIEW이어야 함
-        if (document.getStatus() != Document.DocumentStatus.READY_FOR_REVIEW) {
-            throw new RuntimeException("문서가 검토 대기 상태가 아닙니다");
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("한 번에 처리할 수 있는 문서는 최대 " + MAX_BATCH_SIZE + "건입니다");
         }
         
-        // 서명 데이터를 문서 데이터에 추가
-        if (signatureData != null && document.getData() != null) {
-            ObjectNode data = (ObjectNode) document.getData();
-            ObjectNode signatures = data.has("signatures") ? 
-                    (ObjectNode) data.get("signatures") : objectMapper.createObjectNode();
-            signatures.put(user.getEmail(), signatureData);
-            data.set("signatures", signatures);
-            document.setData(data);
+        // 문서별 자동 저장 잠금은 트랜잭션이 끝날 때까지 유지되므로 항상 같은 순서로 획득
+        ids.stream().sorted().forEach(documentAutosaveBuffer::flush);
+        
+        Set<Long> permitted = new HashSet<>(documentRoleRepository.findDocumentIdsWithRoles(
+                ids, user.getId(), transition.getAllowedRoles()));
+        Map<Long, Document.DocumentStatus> statuses = findStatuses(ids);
+        Set<Long> alreadyApproved = transition == DocumentTransition.APPROVE
+                ? new HashSet<>(documentRepository.findIdsApprovedBy(ids, user.getEmail()))
+                : Set.of();
+        
+        Map<Long, BatchTransitionResult> results = new LinkedHashMap<>();
+        List<Long> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            Document.DocumentStatus status = statuses.get(id);
+            if (status == null) {
+                results.put(id, BatchTransitionResult.failed(id, "Document not found"));
+            } else if (!permitted.contains(id)) {
+                results.put(id, BatchTransitionResult.failed(id, transition.permissionDeniedMessage()));
+            } else if (!transition.isAllowedFrom(status)) {
+                results.put(id, BatchTransitionResult.failed(id, transition.invalidStateMessage(status)));
+            } else if (alreadyApproved.contains(id)) {
+                results.put(id, BatchTransitionResult.failed(id, ALREADY_APPROVED_MESSAGE));
+            } else {
+                results.put(id, null);
+                eligible.add(id);
+            }
         }
         
-        // 상태를 COMPLETED로 변경
-        document.setStatus(Document.DocumentStatus.COMPLETED);
-        document = documentRepository.save(document);
-        
-        // 작업 로그 추가
-        TasksLog approveLog = TasksLog.builder()
-                .document(document)
-                .assignedBy(user)
-                .assignedUser(user)
-                .status(TasksLog.TaskStatus.COMPLETED)
-                .completedAt(LocalDateTime.now())
-                .build();
-        
-        tasksLogRepository.save(approveLog);
+        if (!eligible.isEmpty()) {
+            // 전이할 문서가 있을 때만 서명 저장
+            JsonNode signatureReference = signatureSupplier != null
+                    ? signatureService.toReference(signatureSupplier.get())
+                    : null;
+            
+            Map<Long, Long> versions = documentWorkflowRepository.applyTransitionBatch(
+                    eligible, transition, user.getId(), reason, user.getEmail(), signatureReference);
+            
+            // 확인 이후 다른 요청이 상태를 바꾼 문서는 현재 상태로 실패 처리
+            List<Long> missed = eligible.stream().filter(id -> !versions.containsKey(id)).toList();
+            Map<Long, Document.DocumentStatus> currentStatuses = missed.isEmpty() ? Map.of() : findStatuses(missed);
+            for (Long id : eligible) {
+                results.put(id, versions.containsKey(id)
+                        ? BatchTransitionResult.applied(id, versions.get(id))
+                        : BatchTransitionResult.failed(id, transition.invalidStateMessage(currentStatuses.get(id))));
+            }
+            
+            log.info("문서 일괄 상태 전이 - 전이: {}, 사용자: {}, 요청: {}건, 성공: {}건",
+                    transition, user.getEmail(), ids.size(), versions.size());
+        }
         
-        return document;
+        return new ArrayList<>(results.values());
     }
     
-    public Document rejectDocument(Long documentId, User user, String reason) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found"));
-        
-        // 검토자만 거부 가능
-        if (!isReviewer(document, user)) {
-            throw new RuntimeException("문서를 거부할 권한이 없습니다");
+    private boolean hasApproved(Long documentId, User user) {
+        return !documentRepository.findIdsApprovedBy(List.of(documentId), user.getEmail()).isEmpty();
+    }
+    
+    private Map<Long, Document.DocumentStatus> findStatuses(Collection<Long> ids) {
+        Map<Long, Document.DocumentStatus> statuses = new HashMap<>();
+        for (Object[] row : documentRepository.findStatusesByIdIn(ids)) {
+            statuses.put((Long) row[0], (Document.DocumentStatus) row[1]);
         }
-        
-        // 현재 상태가 READY_FOR_REVIEW이어야 함
-        if (document.getStatus() != Document.DocumentStatus.READY_FOR_REVIEW) {
-            throw new RuntimeException("문서가 검토 대기 상태가 아닙니다");
+        return statuses;
+    }
+    
+    /**
+     * 상태 전이 - 역할 확인 후 상태 조건부 UPDATE + 작업 로그 INSERT를 한 번에 실행
+     * 조건이 맞지 않으면 현재 상태/버전을 다시 읽어 구체적인 오류를 반환
+     */
+    private Document transition(Long documentId, User user, DocumentTransition transition,
+                                Long expectedVersion, String reason, JsonNode signatureReference) {
+        checkTransitionAllowed(documentId, user, transition);
+        
+        Optional<Long> version = documentWorkflowRepository.applyTransition(
+                documentId, transition, user.getId(), reason, expectedVersion, user.getEmail(), signatureReference);
+        
+        if (version.isEmpty()) {
+            Document.DocumentStatus current = documentRepository.findStatusById(documentId)
+                    .orElseThrow(() -> new RuntimeException("Document not found"));
+            Long currentVersion = documentRepository.findVersionById(documentId).orElse(null);
+            if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+                throw new DocumentVersionConflictException(currentVersion);
+            }
+            if (transition == DocumentTransition.APPROVE && hasApproved(documentId, user)) {
+                throw new RuntimeException(ALREADY_APPROVED_MESSAGE);
+            }
+            throw new RuntimeException(transition.invalidStateMessage(current));
         }
         
-        // 상태를 REJECTED로 변경
-        document.setStatus(Document.DocumentStatus.REJECTED);
-        document = documentRepository.save(document);
-        
-        // 작업 로그 추가
-        TasksLog rejectLog = TasksLog.builder()
-                .document(document)
-                .assignedBy(user)
-                .assignedUser(user)
-                .status(TasksLog.TaskStatus.REJECTED)
-                .rejectionReason(reason)
-                .completedAt(LocalDateTime.now())
-                .build();
-        
-        tasksLogRepository.save(rejectLog);
+        log.info("문서 상태 전이 - 문서 ID: {}, 전이: {}, 사용자: {}, 버전: {}", 
+                documentId, transition, user.getEmail(), version.get());
         
-        return document;
+        return findWithDetails(documentId);
+    }
+    
+    /**
+     * 새 문서가 참조할 템플릿 버전
+     */
+    private TemplateVersion currentVersion(Template template) {
+        TemplateVersion version = template.getCurrentVersion();
+        if (version == null) {
+            throw new RuntimeException("템플릿 버전이 없습니다 - 템플릿 ID: " + template.getId());
+        }
+        return version;
+    }
+    
+    /**
+     * 응답용 문서 조회 - open-in-view를 끄므로 응답 변환에 필요한 연관(템플릿, 역할, 사용자)을 함께 로딩
+     */
+    private Document findWithDetails(Long documentId) {
+        return documentRepository.findWithDetailsById(documentId)
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+    }
+    
+    private void checkTransitionAllowed(Long documentId, User user, DocumentTransition transition) {
+        Set<DocumentRole.TaskRole> roles = documentPermissionService.getRoles(documentId, user);
+        if (!transition.isAllowedFor(roles)) {
+            if (roles.isEmpty() && documentRepository.findStatusById(documentId).isEmpty()) {
+                throw new RuntimeException("Document not found");
+            }
+            throw new RuntimeException(transition.permissionDeniedMessage());
+        }
     }
     
     public boolean canReview(Long documentId, User user) {
         try {
-            Document document = getDocumentById(documentId)
+            // 폴링이 잦으므로 문서 전체 대신 상태만 조회하고 역할은 짧은 TTL 캐시 사용
+            Document.DocumentStatus status = documentRepository.findStatusById(documentId)
                     .orElseThrow(() -> new RuntimeException("Document not found"));
             
             // 검토자이고 문서가 검토 대기 상태인지 확인
-            return isReviewer(document, user) && 
-                   document.getStatus() == Document.DocumentStatus.READY_FOR_REVIEW;
+            return status == Document.DocumentStatus.READY_FOR_REVIEW &&
+                   documentPermissionService.getCachedRoles(documentId, user).contains(DocumentRole.TaskRole.REVIEWER) &&
+                   !hasApproved(documentId, user);
         } catch (Exception e) {
             log.error("Error checking review permission for document {} and user {}", documentId, user.getEmail(), e);
             return false;
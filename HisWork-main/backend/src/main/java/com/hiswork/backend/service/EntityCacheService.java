@@ -0,0 +1,125 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 2차 캐시 명시적 제거
+ * 엔티티 저장/삭제는 Hibernate가 캐시를 함께 갱신하지만, 수정/삭제 서비스에서는 커밋 후 한 번 더 제거하여
+ * 캐시 항목이 DB 커밋 결과와 어긋나지 않도록 함
+ * 다른 노드의 2차 캐시는 캐시 대상 엔티티의 INSERT/UPDATE/DELETE마다 무효화를 발행하여 제거 (CacheInvalidationBus)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheService {
+
+    // 캐시 대상 엔티티 -> 알림 키 파서
+    private static final Map<Class<?>, Function<String, Object>> CACHED_ENTITIES = Map.of(
+            Template.class, Long::valueOf,
+            User.class, UUID::fromString
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @PostConstruct
+    public void registerInvalidation() {
+        CACHED_ENTITIES.forEach((entityClass, keyParser) -> cacheInvalidationBus.register(
+                entityClass.getSimpleName(), key -> evictRemote(entityClass, keyParser.apply(key))));
+        cacheInvalidationBus.registerFlush(() -> entityManagerFactory.getCache().evictAll());
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        PublishingListener listener = new PublishingListener();
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    /**
+     * 커밋 후 엔티티 캐시 제거 (롤백되면 제거하지 않음, 트랜잭션 밖이면 즉시 제거)
+     */
+    public void evictAfterCommit(Class<?> entityClass, Object id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(entityClass, id);
+                }
+            });
+        } else {
+            evict(entityClass, id);
+        }
+    }
+
+    public void evict(Class<?> entityClass, Object id) {
+        entityManagerFactory.getCache().evict(entityClass, id);
+        log.debug("2차 캐시 제거 - {}: {}", entityClass.getSimpleName(), id);
+    }
+
+    /**
+     * 다른 노드의 변경 반영 - 조회 캐시(findByEmail)는 이 노드의 갱신 시각 영역에 기록되지 않았으므로 함께 제거
+     */
+    private void evictRemote(Class<?> entityClass, Object id) {
+        evict(entityClass, id);
+        if (entityClass == User.class) {
+            entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().evictDefaultQueryRegion();
+        }
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        Class<?> entityClass = persister.getMappedClass();
+        if (CACHED_ENTITIES.containsKey(entityClass)) {
+            cacheInvalidationBus.publish(entityClass.getSimpleName(), id);
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션 안에서 무효화 발행 (NOTIFY는 커밋될 때 전달)
+     */
+    private class PublishingListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            publish(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            publish(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            publish(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+    }
+}
@@ -7,16 +7,21 @@ import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.CompressionConstants;
+import com.itextpdf.kernel.pdf.WriterProperties;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.layout.Canvas;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.properties.TextAlignment;
+import com.hiswork.backend.dto.DocumentRenderSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.rendering.PDFRenderer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
@@ -24,14 +29,14 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import com.itextpdf.io.image.ImageData;
-import com.itextpdf.io.image.ImageDataFactory;
-import java.util.Base64;
 import com.itextpdf.kernel.colors.Color;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
@@ -51,6 +56,12 @@ public class PdfService {
     @Value("${app.file.upload-dir}")
     private String uploadDir;
     
+    @Value("${app.file.generated-pdfs-dir}")
+    private String generatedPdfsDir;
+    
+    private final MeterRegistry meterRegistry;
+    private final SignatureImageCache signatureImageCache;
+    
     /**
      * PDF 파일을 업로드하고 이미지로 변환
      */
@@ -109,14 +120,21 @@ public class PdfService {
      * 완성된 PDF 생성 (필드 값과 서명 포함)
      */
     public String generateCompletedPdf(String templatePdfPath, JsonNode coordinateFields, JsonNode documentData, String documentTitle) throws IOException {
+        String outputFilename = "completed_" + UUID.randomUUID().toString() + ".pdf";
+        String outputPath = pdfTemplatesDir + File.separator + outputFilename;
+        
+        return generateCompletedPdf(templatePdfPath, coordinateFields, documentData, documentTitle, outputPath);
+    }
+    
+    /**
+     * 완성된 PDF를 지정한 경로에 생성
+     */
+    private String generateCompletedPdf(String templatePdfPath, JsonNode coordinateFields, JsonNode documentData, String documentTitle, String outputPath) throws IOException {
         log.info("PDF 생성 시작 - 템플릿: {}, 필드 수: {}, 문서 데이터: {}", 
                 templatePdfPath, 
                 coordinateFields != null && coordinateFields.isArray() ? coordinateFields.size() : 0,
                 documentData != null ? documentData.toString() : "null");
         
-        String outputFilename = "completed_" + UUID.randomUUID().toString() + ".pdf";
-        String outputPath = pdfTemplatesDir + File.separator + outputFilename;
-        
         try (PdfReader reader = new PdfReader(templatePdfPath);
              PdfWriter writer = new PdfWriter(outputPath);
              PdfDocument pdfDoc = new PdfDocument(reader, writer)) {
@@ -159,17 +177,11 @@ public class PdfService {
                         log.info("서명 필드 처리 - 검토자: {}", reviewerEmail);
                         
                         if (reviewerEmail != null && signatures != null && signatures.has(reviewerEmail)) {
-                            String signatureData = signatures.get(reviewerEmail).asText();
-                            log.info("서명 데이터 발견 - 길이: {}", signatureData.length());
-                            
-                            // base64 이미지 데이터에서 "data:image/png;base64," 부분 제거
-                            if (signatureData.startsWith("data:image")) {
-                                signatureData = signatureData.substring(signatureData.indexOf(",") + 1);
-                            }
+                            log.info("서명 데이터 발견 - 검토자: {}", reviewerEmail);
                             
                             try {
-                                byte[] imageBytes = Base64.getDecoder().decode(signatureData);
-                                ImageData imageData = ImageDataFactory.create(imageBytes);
+                                // 서명 저장소 참조 또는 레거시 base64 데이터에서 이미지 조회 (디코딩 결과 캐시)
+                                ImageData imageData = signatureImageCache.getImageData(signatures.get(reviewerEmail));
                                 
                                 // 서명 이미지를 PDF에 추가
                                 canvas.addImageWithTransformationMatrix(imageData, width, 0, 0, height, x, adjustedY, false);
@@ -320,6 +332,104 @@ public class PdfService {
         }
     }
 
+    /**
+     * 스냅샷 기준 완성 PDF - 트랜잭션/영속성 컨텍스트 밖에서 호출해야 렌더링 동안 DB 커넥션을 점유하지 않음
+     * (pdf.render의 connection.held 태그로 확인, 커넥션 점유 시간은 hikaricp.connections.usage)
+     */
+    public Path getDownloadablePdf(DocumentRenderSnapshot snapshot, boolean optimize) throws IOException {
+        boolean connectionHeld = TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.getResourceMap().isEmpty();
+        if (connectionHeld) {
+            log.warn("DB 리소스를 점유한 채 PDF 렌더링 - 문서 ID: {}", snapshot.documentId());
+        }
+        
+        long startTime = System.nanoTime();
+        try {
+            return getDownloadablePdf(snapshot.documentId(), snapshot.version(), snapshot.templatePdfPath(),
+                    snapshot.data(), snapshot.templateName(), optimize);
+        } finally {
+            meterRegistry.timer("pdf.render", "connection.held", String.valueOf(connectionHeld))
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    /**
+     * 다운로드용 완성 PDF 조회
+     * 문서 버전(ETag와 같은 논리 버전, 미기록 자동 저장분 포함)을 키로 파일을 재사용하여 Range 요청 사이에 동일한 바이트를 보장
+     */
+    public Path getDownloadablePdf(Long documentId, Long documentVersion, String templatePdfPath, 
+                                   JsonNode documentData, String documentTitle, boolean optimize) throws IOException {
+        Files.createDirectories(Paths.get(generatedPdfsDir));
+        
+        String versionPrefix = "document_" + documentId + "_";
+        String version = "v" + (documentVersion != null ? documentVersion : 0);
+        Path target = Paths.get(generatedPdfsDir, versionPrefix + version + (optimize ? "_web" : "") + ".pdf");
+        
+        if (Files.exists(target)) {
+            log.debug("캐시된 완성 PDF 사용: {}", target);
+            return target;
+        }
+        
+        // 동시 요청이 같은 파일을 덮어쓰지 않도록 임시 파일에 생성 후 원자적으로 이동
+        String renderedPath = generateCompletedPdf(templatePdfPath, null, documentData, documentTitle,
+                generatedPdfsDir + File.separator + "rendering_" + UUID.randomUUID() + ".pdf");
+        Path rendered = Paths.get(renderedPath);
+        
+        try {
+            if (optimize) {
+                Path optimized = Paths.get(generatedPdfsDir, "optimizing_" + UUID.randomUUID() + ".pdf");
+                optimizeForWebView(rendered, optimized);
+                Files.move(optimized, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.move(rendered, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            Files.deleteIfExists(rendered);
+        }
+        
+        deleteOutdatedVersions(versionPrefix, versionPrefix + version);
+        return target;
+    }
+    
+    /**
+     * 웹 보기용 PDF 최적화 (객체 스트림 + 최대 압축으로 전체 재작성)
+     */
+    public void optimizeForWebView(Path source, Path target) throws IOException {
+        long startTime = System.nanoTime();
+        WriterProperties writerProperties = new WriterProperties()
+                .setFullCompressionMode(true)
+                .setCompressionLevel(CompressionConstants.BEST_COMPRESSION);
+        
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(source.toString()), new PdfWriter(target.toString(), writerProperties))) {
+            log.debug("PDF 최적화 중 - 페이지 수: {}", pdfDoc.getNumberOfPages());
+        }
+        
+        long originalSize = Files.size(source);
+        long optimizedSize = Files.size(target);
+        meterRegistry.summary("pdf.output.bytes", "stage", "original").record(originalSize);
+        meterRegistry.summary("pdf.output.bytes", "stage", "optimized").record(optimizedSize);
+        meterRegistry.timer("pdf.output.optimize").record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        
+        log.info("PDF 최적화 완료 - 원본: {} bytes, 최적화: {} bytes ({}%)", 
+                originalSize, optimizedSize, originalSize > 0 ? optimizedSize * 100 / originalSize : 100);
+    }
+    
+    /**
+     * 같은 문서의 이전 버전 완성 PDF 삭제 (현재 버전의 원본/웹 최적화 파일만 유지)
+     */
+    private void deleteOutdatedVersions(String documentPrefix, String currentVersionName) {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(generatedPdfsDir), documentPrefix + "*.pdf")) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (!name.equals(currentVersionName + ".pdf") && !name.equals(currentVersionName + "_web.pdf")) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이전 완성 PDF 삭제 실패: {}", e.getMessage());
+        }
+    }
+
     private void fillCoordinateFields(PdfCanvas canvas, JsonNode templateFields, JsonNode documentData, PdfDocument pdfDoc) throws IOException {
         if (!templateFields.has("coordinateFields") || !documentData.has("coordinateData")) {
             return;
@@ -346,16 +456,8 @@ public class PdfService {
                 // 서명 필드 처리
                 String reviewerEmail = field.has("reviewerEmail") ? field.get("reviewerEmail").asText() : null;
                 if (reviewerEmail != null && signatures != null && signatures.has(reviewerEmail)) {
-                    String signatureData = signatures.get(reviewerEmail).asText();
-                    
-                    // base64 이미지 데이터에서 "data:image/png;base64," 부분 제거
-                    if (signatureData.startsWith("data:image")) {
-                        signatureData = signatureData.substring(signatureData.indexOf(",") + 1);
-                    }
-                    
                     try {
-                        byte[] imageBytes = Base64.getDecoder().decode(signatureData);
-                        ImageData imageData = ImageDataFactory.create(imageBytes);
+                        ImageData imageData = signatureImageCache.getImageData(signatures.get(reviewerEmail));
                         
                         // 서명 이미지를 PDF에 추가 (크기 조정하여)
                         canvas.addImageWithTransformationMatrix(imageData, width, 0, 0, height, x, adjustedY, false);
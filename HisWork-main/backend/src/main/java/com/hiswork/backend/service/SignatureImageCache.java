@@ -0,0 +1,75 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiswork.backend.domain.SignatureBlob;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * PDF 렌더링용 서명 ImageData 캐시 (크기 제한 Caffeine 캐시 하나)
+ * 서명 참조는 서명 ID, 레거시 base64 값은 내용의 SHA-256을 키로 사용 (서명 저장소의 내용은 변경되지 않음)
+ * 같은 서명을 렌더링할 때마다 base64 디코딩/PNG 파싱을 반복하지 않도록 함
+ */
+@Component
+@Slf4j
+public class SignatureImageCache {
+
+    private final SignatureService signatureService;
+    private final Cache<String, ImageData> images;
+
+    public SignatureImageCache(SignatureService signatureService,
+                               @Value("${app.signature.image-cache-size:256}") int maxEntries) {
+        this.signatureService = signatureService;
+        this.images = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * 문서 data의 서명 값(참조 또는 레거시 base64)에 해당하는 ImageData 조회
+     */
+    public ImageData getImageData(JsonNode signatureValue) {
+        if (signatureValue == null || signatureValue.isNull()) {
+            return null;
+        }
+
+        if (signatureValue.has(SignatureService.SIGNATURE_ID_FIELD)) {
+            long signatureId = signatureValue.get(SignatureService.SIGNATURE_ID_FIELD).asLong();
+            return images.get("id:" + signatureId, key -> loadImageData(signatureId));
+        }
+
+        return images.get("sha256:" + sha256(signatureValue.asText()),
+                key -> ImageDataFactory.create(signatureService.resolveImageBytes(signatureValue)));
+    }
+
+    /**
+     * 서명 저장소에서 로딩 (없으면 null - 캐시에 저장되지 않음)
+     */
+    private ImageData loadImageData(Long signatureId) {
+        SignatureBlob signature = signatureService.getSignature(signatureId).orElse(null);
+        if (signature == null) {
+            log.warn("서명 이미지 없음 - ID: {}", signatureId);
+            return null;
+        }
+        return ImageDataFactory.create(signature.getContent());
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
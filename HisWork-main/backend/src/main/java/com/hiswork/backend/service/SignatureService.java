@@ -0,0 +1,249 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.SignatureBlob;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.repository.SignatureBlobRepository;
+import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.util.SignatureImageNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 서명 이미지 저장/조회
+ * - 업로드된 바이너리를 스트리밍으로 읽어 SHA-256과 함께 저장 (같은 사용자의 동일 이미지는 재사용)
+ * - 문서 data에는 {"signatureId": id} 참조만 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class SignatureService {
+
+    public static final String SIGNATURE_ID_FIELD = "signatureId";
+    // 문서 data의 서명 표시용 항목 (검토자 이메일 → 참조) - 서버만 기록하고 클라이언트 저장/패치에서는 제외
+    public static final String SIGNATURES_FIELD = "signatures";
+
+    private static final String DEFAULT_CONTENT_TYPE = "image/png";
+
+    private final SignatureBlobRepository signatureBlobRepository;
+    private final UserRepository userRepository;
+    private final SignatureImageNormalizer signatureImageNormalizer;
+    private final EntityCacheService entityCacheService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.signature.max-bytes:1048576}") // 1MB
+    private int maxBytes;
+
+    /**
+     * multipart 업로드된 서명 이미지 저장
+     */
+    public SignatureBlob store(User owner, MultipartFile file) {
+        String contentType = file.getContentType() != null ? file.getContentType() : DEFAULT_CONTENT_TYPE;
+        try (InputStream in = file.getInputStream()) {
+            return store(owner, in, contentType);
+        } catch (IOException e) {
+            throw new RuntimeException("서명 이미지 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기존 JSON 방식의 base64(data URL) 서명 저장 - 디코딩도 스트림으로 처리
+     */
+    public SignatureBlob storeDataUrl(User owner, String signatureData) {
+        String contentType = DEFAULT_CONTENT_TYPE;
+        String base64 = signatureData;
+
+        // "data:image/png;base64," 형식의 헤더 분리
+        if (signatureData.startsWith("data:")) {
+            int comma = signatureData.indexOf(',');
+            String header = signatureData.substring(5, comma);
+            contentType = header.contains(";") ? header.substring(0, header.indexOf(';')) : header;
+            base64 = signatureData.substring(comma + 1);
+        }
+
+        try (InputStream in = Base64.getDecoder().wrap(
+                new ByteArrayInputStream(base64.getBytes(StandardCharsets.US_ASCII)))) {
+            return store(owner, in, contentType);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RuntimeException("서명 데이터 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 사용자 서명 등록 - 정규화(여백 제거, 축소, 그레이스케일+알파)한 뒤 저장하고 사용자에 연결
+     */
+    public SignatureBlob saveUserSignature(User user, MultipartFile file) {
+        byte[] normalized;
+        try (InputStream in = file.getInputStream()) {
+            normalized = signatureImageNormalizer.normalize(in);
+        } catch (IOException e) {
+            throw new RuntimeException("서명 이미지 처리 실패: " + e.getMessage(), e);
+        }
+
+        SignatureBlob signature;
+        try {
+            signature = store(user, new ByteArrayInputStream(normalized), DEFAULT_CONTENT_TYPE);
+        } catch (IOException e) {
+            throw new RuntimeException("서명 이미지 저장 실패: " + e.getMessage(), e);
+        }
+
+        user.setSignatureBlobId(signature.getId());
+        user.setSignatureImageUrl("/api/signatures/" + signature.getId());
+        userRepository.save(user);
+        entityCacheService.evictAfterCommit(User.class, user.getId());
+
+        log.info("사용자 서명 등록 - 사용자: {}, 서명 ID: {}, 크기: {} bytes", user.getEmail(), signature.getId(), normalized.length);
+        return signature;
+    }
+
+    /**
+     * 사용자에 등록된 서명 조회
+     */
+    @Transactional(readOnly = true)
+    public SignatureBlob getUserSignature(User user) {
+        if (user.getSignatureBlobId() == null) {
+            throw new RuntimeException("등록된 서명이 없습니다. 먼저 서명을 등록해주세요.");
+        }
+        return signatureBlobRepository.findById(user.getSignatureBlobId())
+                .orElseThrow(() -> new RuntimeException("등록된 서명을 찾을 수 없습니다."));
+    }
+
+    private SignatureBlob store(User owner, InputStream in, String contentType) throws IOException {
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        long total = 0;
+
+        try (DigestInputStream digestStream = new DigestInputStream(in, digest)) {
+            int read;
+            while ((read = digestStream.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new RuntimeException("서명 이미지가 너무 큽니다 (최대 " + maxBytes + " bytes)");
+                }
+                content.write(buffer, 0, read);
+            }
+        }
+
+        if (total == 0) {
+            throw new RuntimeException("서명 이미지가 비어 있습니다");
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+        byte[] bytes = content.toByteArray();
+
+        return signatureBlobRepository.findFirstByOwnerIdAndSha256(owner.getId(), hash)
+                .orElseGet(() -> {
+                    log.info("서명 이미지 저장 - 사용자: {}, 크기: {} bytes", owner.getEmail(), bytes.length);
+                    return signatureBlobRepository.save(SignatureBlob.builder()
+                            .owner(owner)
+                            .contentType(contentType)
+                            .size(bytes.length)
+                            .sha256(hash)
+                            .content(bytes)
+                            .build());
+                });
+    }
+
+    /**
+     * 문서 data에 저장할 서명 참조 노드
+     */
+    public ObjectNode toReference(SignatureBlob signature) {
+        ObjectNode reference = objectMapper.createObjectNode();
+        reference.put(SIGNATURE_ID_FIELD, signature.getId());
+        return reference;
+    }
+
+    /**
+     * 승인 기록 기준 서명 참조 (검토자 이메일 → 서명 ID)
+     * 승인한 검토자의 항목만, 서명 소유자가 그 검토자인 경우만 포함
+     * approvals에 서명 ID가 없는 이전 승인은 data.signatures의 참조를 같은 조건으로 확인
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> verifiedReferences(JsonNode approvals, JsonNode signatures) {
+        Map<String, Long> candidates = new LinkedHashMap<>();
+        if (approvals == null || !approvals.isObject()) {
+            return candidates;
+        }
+        approvals.fields().forEachRemaining(entry -> {
+            JsonNode reference = entry.getValue().has(SIGNATURE_ID_FIELD) ? entry.getValue()
+                    : signatures != null ? signatures.path(entry.getKey()) : null;
+            if (reference != null && reference.path(SIGNATURE_ID_FIELD).canConvertToLong()) {
+                candidates.put(entry.getKey(), reference.get(SIGNATURE_ID_FIELD).asLong());
+            }
+        });
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Map<Long, String> owners = new HashMap<>();
+        signatureBlobRepository.findOwnersByIdIn(candidates.values())
+                .forEach(owner -> owners.put(owner.getId(), owner.getOwnerEmail()));
+        candidates.entrySet().removeIf(entry -> {
+            boolean owned = entry.getKey().equals(owners.get(entry.getValue()));
+            if (!owned) {
+                log.warn("서명 소유자 불일치로 제외 - 검토자: {}, 서명 ID: {}", entry.getKey(), entry.getValue());
+            }
+            return !owned;
+        });
+        return candidates;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SignatureBlob> getSignature(Long id) {
+        return signatureBlobRepository.findById(id);
+    }
+
+    /**
+     * 문서 data의 서명 값에서 이미지 바이트 조회 (참조 또는 레거시 base64 문자열 모두 지원)
+     */
+    @Transactional(readOnly = true)
+    public byte[] resolveImageBytes(JsonNode signatureValue) {
+        if (signatureValue == null || signatureValue.isNull()) {
+            return null;
+        }
+
+        if (signatureValue.has(SIGNATURE_ID_FIELD)) {
+            return signatureBlobRepository.findById(signatureValue.get(SIGNATURE_ID_FIELD).asLong())
+                    .map(SignatureBlob::getContent)
+                    .orElse(null);
+        }
+
+        // 레거시: base64 이미지 데이터에서 "data:image/png;base64," 부분 제거
+        String signatureData = signatureValue.asText();
+        if (signatureData.startsWith("data:image")) {
+            signatureData = signatureData.substring(signatureData.indexOf(",") + 1);
+        }
+        return Base64.getDecoder().decode(signatureData);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
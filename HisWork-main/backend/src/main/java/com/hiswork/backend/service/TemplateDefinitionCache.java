@@ -0,0 +1,39 @@
+package com.hiswork.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiswork.backend.domain.TemplateDefinition;
+import com.hiswork.backend.domain.TemplateVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파싱된 템플릿 정의 캐시 (템플릿 버전 ID 기준)
+ * 템플릿 버전은 변경되지 않으므로 무효화가 필요 없고, 크기 제한만 Caffeine으로 관리
+ */
+@Component
+@Slf4j
+public class TemplateDefinitionCache {
+
+    private final Cache<Long, TemplateDefinition> definitions;
+
+    public TemplateDefinitionCache(@Value("${app.template.definition-cache-size:256}") int maxEntries) {
+        this.definitions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public TemplateDefinition get(TemplateVersion templateVersion) {
+        if (templateVersion.getCoordinateFields() == null) {
+            return TemplateDefinition.empty();
+        }
+
+        return definitions.get(templateVersion.getId(), id -> {
+            TemplateDefinition definition = TemplateDefinition.parse(
+                    templateVersion.getCoordinateFields(), templateVersion.getFieldsSchemaVersion());
+            log.debug("템플릿 정의 해석 - 템플릿 버전 ID: {}, 필드: {}개", id, definition.getFieldCount());
+            return definition;
+        });
+    }
+}
@@ -1,15 +1,25 @@
 package com.hiswork.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.TemplateDefinition;
+import com.hiswork.backend.domain.TemplateVersion;
 import com.hiswork.backend.domain.User;
 import com.hiswork.backend.dto.TemplateCreateRequest;
+import com.hiswork.backend.dto.TemplatePageResponse;
+import com.hiswork.backend.dto.TemplateSearchCondition;
+import com.hiswork.backend.dto.TemplateSummary;
 import com.hiswork.backend.repository.TemplateRepository;
+import com.hiswork.backend.repository.TemplateVersionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -18,18 +28,70 @@ import java.util.Optional;
 @Slf4j
 public class TemplateService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final TemplateRepository templateRepository;
+    private final TemplateVersionRepository templateVersionRepository;
+    private final EntityCacheService entityCacheService;
+    private final ObjectMapper objectMapper;
     
+    /**
+     * 템플릿 생성 - 첫 버전(1)을 함께 만들어 현재 버전으로 지정
+     */
     public Template savePdfTemplate(Template template) {
-        return templateRepository.save(template);
+        TemplateDefinition definition = TemplateDefinition.parse(template.getCoordinateFields(), template.getFieldsSchemaVersion());
+        template.setFieldCount(definition.getFieldCount());
+        Template saved = templateRepository.save(template);
+        saved.setCurrentVersion(createVersion(saved, saved.getCreatedBy(), 1));
+        return saved;
     }
     
     public List<Template> getAllTemplates() {
         return templateRepository.findAll();
     }
     
+    /**
+     * 템플릿 목록 키셋 페이지 조회 (요약 프로젝션 - 좌표 필드 정의와 작성자 엔티티는 로딩하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public TemplatePageResponse getTemplatePage(TemplateSearchCondition condition, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        
+        List<TemplateSummary> summaries = templateRepository.findSummaries(condition, pageSize + 1);
+        boolean hasNext = summaries.size() > pageSize;
+        List<TemplateSummary> items = hasNext ? summaries.subList(0, pageSize) : summaries;
+        
+        return TemplatePageResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    /**
+     * 요청의 coordinateFields(JSON 문자열) 해석 및 검증 - 비어 있으면 null
+     */
+    public JsonNode parseCoordinateFields(String coordinateFields) {
+        if (coordinateFields == null || coordinateFields.trim().isEmpty()) {
+            return null;
+        }
+        JsonNode fields;
+        try {
+            fields = objectMapper.readTree(coordinateFields);
+        } catch (Exception e) {
+            throw new RuntimeException("좌표 필드 JSON 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+        TemplateDefinition.validate(fields, TemplateDefinition.CURRENT_SCHEMA_VERSION);
+        return fields;
+    }
+    
+    /**
+     * 템플릿 단건 조회 (2차 캐시) - 응답 변환에서 쓰는 작성자도 트랜잭션 안에서 초기화
+     */
     public Optional<Template> getTemplateById(Long id) {
-        return templateRepository.findById(id);
+        Optional<Template> template = templateRepository.findById(id);
+        template.ifPresent(found -> Hibernate.initialize(found.getCreatedBy()));
+        return template;
     }
     
     public Template updateTemplate(Long id, TemplateCreateRequest request, User user) {
@@ -41,13 +103,28 @@ public class TemplateService {
             throw new RuntimeException("템플릿을 수정할 권한이 없습니다");
         }
         
+        // 기존 문서가 참조하는 버전은 그대로 두고, 내용이 바뀌면 새 버전을 현재 버전으로 지정 (공개 여부는 버전과 무관)
+        boolean contentChanged = !Objects.equals(template.getName(), request.getName())
+                || !Objects.equals(template.getDescription(), request.getDescription())
+                || !Objects.equals(template.getPdfFilePath(), request.getPdfFilePath())
+                || !Objects.equals(template.getPdfImagePath(), request.getPdfImagePath());
+        
         template.setName(request.getName());
         template.setDescription(request.getDescription());
         template.setIsPublic(request.getIsPublic());
         template.setPdfFilePath(request.getPdfFilePath());
         template.setPdfImagePath(request.getPdfImagePath());
         
-        return templateRepository.save(template);
+        if (contentChanged || template.getCurrentVersion() == null) {
+            int nextNumber = template.getCurrentVersion() != null ? template.getCurrentVersion().getVersionNumber() + 1 : 1;
+            template.setCurrentVersion(createVersion(template, user, nextNumber));
+            log.info("템플릿 새 버전 생성 - 템플릿 ID: {}, 버전: {}", id, nextNumber);
+        }
+        
+        Template saved = templateRepository.save(template);
+        Hibernate.initialize(saved.getCreatedBy());
+        entityCacheService.evictAfterCommit(Template.class, id);
+        return saved;
     }
     
     public void deleteTemplate(Long id, User user) {
@@ -59,6 +136,34 @@ public class TemplateService {
             throw new RuntimeException("템플릿을 삭제할 권한이 없습니다");
         }
         
+        // 현재 버전 참조를 먼저 끊고 버전과 템플릿 삭제 (문서가 참조 중이면 FK 위반으로 실패)
+        template.setCurrentVersion(null);
+        templateRepository.flush();
+        templateVersionRepository.deleteAll(templateVersionRepository.findByTemplateIdOrderByVersionNumberDesc(id));
         templateRepository.delete(template);
+        entityCacheService.evictAfterCommit(Template.class, id);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<TemplateVersion> getVersions(Long templateId) {
+        return templateVersionRepository.findByTemplateIdOrderByVersionNumberDesc(templateId);
+    }
+    
+    /**
+     * 템플릿의 현재 내용으로 새 버전 저장 (저장 후 변경하지 않음)
+     */
+    private TemplateVersion createVersion(Template template, User author, int versionNumber) {
+        return templateVersionRepository.save(TemplateVersion.builder()
+                .template(template)
+                .versionNumber(versionNumber)
+                .name(template.getName())
+                .description(template.getDescription())
+                .pdfFilePath(template.getPdfFilePath())
+                .pdfImagePath(template.getPdfImagePath())
+                .coordinateFields(template.getCoordinateFields())
+                .fieldsSchemaVersion(template.getFieldsSchemaVersion())
+                .fieldCount(template.getFieldCount())
+                .createdBy(author)
+                .build());
     }
 } 
\ No newline at end of file
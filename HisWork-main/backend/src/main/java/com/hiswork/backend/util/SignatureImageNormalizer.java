@@ -0,0 +1,138 @@
+package com.hiswork.backend.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 사용자 서명 이미지 정규화
+ * - 여백(투명/흰색) 잘라내기
+ * - 최대 크기로 축소
+ * - 8비트 그레이스케일 + 알파 PNG로 변환 (흰 배경은 투명 처리)
+ */
+@Component
+public class SignatureImageNormalizer {
+
+    private static final int PADDING = 4;
+    private static final int WHITE_THRESHOLD = 240;
+    private static final int ALPHA_THRESHOLD = 16;
+
+    @Value("${app.signature.max-width:600}")
+    private int maxWidth;
+
+    @Value("${app.signature.max-height:200}")
+    private int maxHeight;
+
+    public byte[] normalize(InputStream imageStream) throws IOException {
+        BufferedImage source = ImageIO.read(imageStream);
+        if (source == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        BufferedImage argb = toArgb(source);
+        BufferedImage trimmed = trim(argb);
+        BufferedImage scaled = downscale(trimmed);
+        BufferedImage grayAlpha = toGrayAlpha(scaled);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(grayAlpha, "PNG", out);
+        return out.toByteArray();
+    }
+
+    private BufferedImage toArgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_ARGB) {
+            return source;
+        }
+        BufferedImage argb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = argb.createGraphics();
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+        return argb;
+    }
+
+    /**
+     * 잉크가 있는 영역만 남기고 잘라내기
+     */
+    private BufferedImage trim(BufferedImage image) {
+        int minX = image.getWidth(), minY = image.getHeight(), maxX = -1, maxY = -1;
+
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if (isInk(image.getRGB(x, y))) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+
+        if (maxX < 0) {
+            throw new IllegalArgumentException("서명 이미지에 내용이 없습니다.");
+        }
+
+        minX = Math.max(0, minX - PADDING);
+        minY = Math.max(0, minY - PADDING);
+        maxX = Math.min(image.getWidth() - 1, maxX + PADDING);
+        maxY = Math.min(image.getHeight() - 1, maxY + PADDING);
+        return image.getSubimage(minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    private BufferedImage downscale(BufferedImage image) {
+        double scale = Math.min(1.0, Math.min((double) maxWidth / image.getWidth(), (double) maxHeight / image.getHeight()));
+        if (scale >= 1.0) {
+            return image;
+        }
+
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private BufferedImage toGrayAlpha(BufferedImage image) {
+        ColorModel colorModel = new ComponentColorModel(ColorSpace.getInstance(ColorSpace.CS_GRAY),
+                new int[]{8, 8}, true, false, Transparency.TRANSLUCENT, DataBuffer.TYPE_BYTE);
+        WritableRaster raster = colorModel.createCompatibleWritableRaster(image.getWidth(), image.getHeight());
+        int[] pixel = new int[2];
+
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int argb = image.getRGB(x, y);
+                pixel[0] = luminance(argb);
+                pixel[1] = isInk(argb) ? (argb >>> 24) : 0;
+                raster.setPixel(x, y, pixel);
+            }
+        }
+        return new BufferedImage(colorModel, raster, false, null);
+    }
+
+    private boolean isInk(int argb) {
+        return (argb >>> 24) > ALPHA_THRESHOLD && luminance(argb) < WHITE_THRESHOLD;
+    }
+
+    private int luminance(int argb) {
+        int r = (argb >> 16) & 0xff;
+        int g = (argb >> 8) & 0xff;
+        int b = argb & 0xff;
+        return (r * 299 + g * 587 + b * 114) / 1000;
+    }
+}
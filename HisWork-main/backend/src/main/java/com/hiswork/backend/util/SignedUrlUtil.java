@@ -0,0 +1,90 @@
+package com.hiswork.backend.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 만료 시간이 포함된 HMAC 서명 URL 생성/검증 (DB 조회 없이 CPU만 사용)
+ */
+@Component
+@Slf4j
+public class SignedUrlUtil {
+
+    public static final String EXPIRES_PARAM = "expires";
+    public static final String SIGNATURE_PARAM = "signature";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    @Value("${app.signed-url.secret:${app.jwt.secret}}")
+    private String secret;
+
+    @Value("${app.signed-url.ttl-seconds:300}") // 5분
+    private long ttlSeconds;
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * 경로(URL 인코딩된 요청 URI 형태)에 만료 시간과 서명을 붙인 URL 생성
+     */
+    public String sign(String path) {
+        long expires = Instant.now().getEpochSecond() + ttlSeconds;
+        return path + "?" + EXPIRES_PARAM + "=" + expires + "&" + SIGNATURE_PARAM + "=" + computeSignature(path, expires);
+    }
+
+    /**
+     * 서명과 만료 시간 검증
+     */
+    public boolean verify(String path, String expires, String signature) {
+        if (expires == null || signature == null) {
+            return false;
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(expires);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+
+        if (expiresAt < Instant.now().getEpochSecond()) {
+            log.debug("서명 URL 만료: {}", path);
+            return false;
+        }
+
+        byte[] expected = computeSignature(path, expiresAt).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 만료까지 남은 시간(초)
+     */
+    public long secondsUntilExpiry(String expires) {
+        try {
+            return Math.max(0, Long.parseLong(expires) - Instant.now().getEpochSecond());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private String computeSignature(String path, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            byte[] digest = mac.doFinal((path + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 URL 생성 실패", e);
+        }
+    }
+}
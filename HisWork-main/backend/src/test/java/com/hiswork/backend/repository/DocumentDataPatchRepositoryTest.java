@@ -0,0 +1,191 @@
+package com.hiswork.backend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.Operation;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.OperationType;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.PatchResult;
+import com.hiswork.backend.service.DocumentService;
+import com.hiswork.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 패치 연산별로 생성된 SQL이 실제 PostgreSQL에서 RFC 6902 / RFC 7386 대로 동작하는지 확인
+ */
+class DocumentDataPatchRepositoryTest extends PostgresIntegrationTest {
+
+    private static final String INITIAL_DATA =
+            "{\"coordinateData\":{\"name\":\"홍길동\",\"memo\":\"메모\"},\"items\":[\"a\",\"b\"]," +
+            "\"signatures\":{\"reviewer@handong.ac.kr\":{\"signatureId\":7}}}";
+
+    @Autowired
+    private DocumentDataPatchRepository documentDataPatchRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long documentId;
+
+    @BeforeEach
+    void setUp() {
+        User creator = createUser("creator");
+        documentId = documentService.createDocument(createTemplate(creator).getId(), creator, null).getId();
+        jdbcTemplate.update("UPDATE documents SET data = CAST(? AS jsonb), version = 1 WHERE id = ?", INITIAL_DATA, documentId);
+    }
+
+    @Test
+    @DisplayName("set은 없는 경로를 만들고 버전을 올린다")
+    void setCreatesMissingPath() {
+        Optional<PatchResult> result = apply(op(OperationType.SET, List.of("coordinateData", "dept"), "\"전산\""));
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getVersion()).isEqualTo(2L);
+        assertThat(data().at("/coordinateData/dept").asText()).isEqualTo("전산");
+    }
+
+    @Test
+    @DisplayName("replace는 있는 값만 바꾸고, 없는 경로면 패치 전체를 적용하지 않는다")
+    void replaceRequiresExistingPath() {
+        assertThat(apply(op(OperationType.REPLACE, List.of("coordinateData", "name"), "\"김철수\""))).isPresent();
+        assertThat(data().at("/coordinateData/name").asText()).isEqualTo("김철수");
+
+        assertThat(apply(
+                op(OperationType.SET, List.of("coordinateData", "dept"), "\"전산\""),
+                op(OperationType.REPLACE, List.of("coordinateData", "missing"), "\"값\""))).isEmpty();
+        assertThat(data().at("/coordinateData").has("dept")).isFalse();
+        assertThat(version()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("remove는 있는 값만 지우고, 없는 경로면 실패한다")
+    void removeRequiresExistingPath() {
+        assertThat(apply(op(OperationType.REMOVE, List.of("coordinateData", "memo"), null))).isPresent();
+        assertThat(data().at("/coordinateData").has("memo")).isFalse();
+
+        assertThat(apply(op(OperationType.REMOVE, List.of("coordinateData", "memo"), null))).isEmpty();
+        assertThat(version()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("unset(Merge Patch의 null)은 없는 경로여도 성공한다")
+    void unsetIgnoresMissingPath() {
+        assertThat(apply(op(OperationType.UNSET, List.of("coordinateData", "missing"), null))).isPresent();
+        assertThat(data().at("/coordinateData/name").asText()).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("add는 배열 위치에 삽입하고, 범위 밖 인덱스나 없는 상위 경로는 실패한다")
+    void addInsertsIntoArraysWithinBounds() {
+        assertThat(apply(op(OperationType.ADD, List.of("items", "1"), "\"x\""))).isPresent();
+        assertThat(apply(op(OperationType.ADD, List.of("items", "-"), "\"z\""))).isPresent();
+        assertThat(apply(op(OperationType.ADD, List.of("coordinateData", "dept"), "\"전산\""))).isPresent();
+        assertThat(data().get("items").toString()).isEqualTo("[\"a\",\"x\",\"b\",\"z\"]");
+        assertThat(data().at("/coordinateData/dept").asText()).isEqualTo("전산");
+
+        assertThat(apply(op(OperationType.ADD, List.of("items", "9"), "\"y\""))).isEmpty();
+        assertThat(apply(op(OperationType.ADD, List.of("items", "first"), "\"y\""))).isEmpty();
+        assertThat(apply(op(OperationType.ADD, List.of("missing", "key"), "\"y\""))).isEmpty();
+        assertThat(version()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("copy/move는 from 값을 옮기고, from이 없으면 실패한다")
+    void copyAndMoveRequireSource() {
+        assertThat(apply(new Operation(OperationType.COPY, List.of("coordinateData", "copied"),
+                List.of("coordinateData", "name"), null))).isPresent();
+        assertThat(apply(new Operation(OperationType.MOVE, List.of("coordinateData", "moved"),
+                List.of("coordinateData", "memo"), null))).isPresent();
+
+        JsonNode coordinateData = data().get("coordinateData");
+        assertThat(coordinateData.get("copied").asText()).isEqualTo("홍길동");
+        assertThat(coordinateData.get("moved").asText()).isEqualTo("메모");
+        assertThat(coordinateData.has("memo")).isFalse();
+
+        assertThat(apply(new Operation(OperationType.COPY, List.of("coordinateData", "other"),
+                List.of("coordinateData", "missing"), null))).isEmpty();
+        assertThat(apply(new Operation(OperationType.MOVE, List.of("coordinateData", "other"),
+                List.of("coordinateData", "missing"), null))).isEmpty();
+        assertThat(data().get("coordinateData")).isEqualTo(coordinateData);
+    }
+
+    @Test
+    @DisplayName("merge는 경로의 객체에 얕게 병합한다")
+    void mergeCombinesObjects() {
+        assertThat(apply(op(OperationType.MERGE, List.of("coordinateData"), "{\"dept\":\"전산\",\"name\":\"김철수\"}"))).isPresent();
+
+        JsonNode coordinateData = data().get("coordinateData");
+        assertThat(coordinateData.get("name").asText()).isEqualTo("김철수");
+        assertThat(coordinateData.get("memo").asText()).isEqualTo("메모");
+        assertThat(coordinateData.get("dept").asText()).isEqualTo("전산");
+    }
+
+    @Test
+    @DisplayName("test는 앞선 연산까지 적용한 값과 비교한다")
+    void testEvaluatesAgainstRunningValue() {
+        assertThat(apply(
+                op(OperationType.REPLACE, List.of("coordinateData", "name"), "\"김철수\""),
+                op(OperationType.TEST, List.of("coordinateData", "name"), "\"김철수\""))).isPresent();
+
+        assertThat(apply(
+                op(OperationType.REPLACE, List.of("coordinateData", "name"), "\"이영희\""),
+                op(OperationType.TEST, List.of("coordinateData", "name"), "\"김철수\""))).isEmpty();
+        assertThat(data().at("/coordinateData/name").asText()).isEqualTo("김철수");
+        assertThat(version()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("기대 버전이 다르면 적용하지 않는다")
+    void rejectsVersionMismatch() {
+        assertThat(documentDataPatchRepository.apply(documentId,
+                List.of(op(OperationType.SET, List.of("coordinateData", "dept"), "\"전산\"")), 0L)).isEmpty();
+        assertThat(documentDataPatchRepository.apply(documentId,
+                List.of(op(OperationType.SET, List.of("coordinateData", "dept"), "\"전산\"")), 1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("루트 전체를 바꿔도 서버가 기록한 signatures는 유지된다")
+    void keepsServerSignatures() {
+        assertThat(apply(op(OperationType.SET, List.of(), "{\"coordinateData\":{}}"))).isPresent();
+
+        JsonNode data = data();
+        assertThat(data.get("coordinateData").isEmpty()).isTrue();
+        assertThat(data.at("/signatures/reviewer@handong.ac.kr/signatureId").asLong()).isEqualTo(7L);
+    }
+
+    private Optional<PatchResult> apply(Operation... operations) {
+        return documentDataPatchRepository.apply(documentId, List.of(operations), null);
+    }
+
+    private Operation op(OperationType type, List<String> path, String value) {
+        try {
+            return new Operation(type, path, null, value != null ? objectMapper.readTree(value) : null);
+        } catch (Exception e) {
+            throw new RuntimeException("테스트 값 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonNode data() {
+        try {
+            return objectMapper.readTree(jdbcTemplate.queryForObject(
+                    "SELECT data::text FROM documents WHERE id = ?", String.class, documentId));
+        } catch (Exception e) {
+            throw new RuntimeException("문서 data 조회 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private long version() {
+        return jdbcTemplate.queryForObject("SELECT version FROM documents WHERE id = ?", Long.class, documentId);
+    }
+}
@@ -0,0 +1,168 @@
+package com.hiswork.backend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.DocumentTransition;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.service.DocumentService;
+import com.hiswork.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태 전이 SQL(CTE)과 다중 검토자 승인 집계를 실제 PostgreSQL에서 확인
+ * 문서는 검토 대기(READY_FOR_REVIEW), 필요 승인 2건, 버전 1에서 시작
+ */
+class DocumentWorkflowRepositoryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private DocumentWorkflowRepository documentWorkflowRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User firstReviewer;
+    private User secondReviewer;
+    private Long documentId;
+
+    @BeforeEach
+    void setUp() {
+        User creator = createUser("creator");
+        firstReviewer = createUser("reviewer1");
+        secondReviewer = createUser("reviewer2");
+        documentId = documentService.createDocument(createTemplate(creator).getId(), creator, null).getId();
+        jdbcTemplate.update("UPDATE documents SET status = ?, required_approvals = 2, approvals = '{}'::jsonb, " +
+                        "data = CAST(? AS jsonb), version = 1 WHERE id = ?",
+                Document.DocumentStatus.READY_FOR_REVIEW.name(), "{\"coordinateData\":{\"name\":\"홍길동\"}}", documentId);
+    }
+
+    @Test
+    @DisplayName("두 검토자의 동시 승인은 모두 반영되고 마지막 승인에서 완료된다")
+    void concurrentApprovalsFromTwoReviewers() throws Exception {
+        CompletableFuture<Optional<Long>> second = transactionTemplate.execute(status -> {
+            assertThat(approve(firstReviewer, 11L, null)).contains(2L);
+
+            // 첫 승인이 커밋되기 전에 두 번째 승인이 같은 행의 잠금을 기다리도록 함
+            CompletableFuture<Optional<Long>> waiting = CompletableFuture.supplyAsync(() -> approve(secondReviewer, 12L, null));
+            awaitLockWait();
+            return waiting;
+        });
+
+        assertThat(second.get(10, TimeUnit.SECONDS)).contains(3L);
+        assertThat(status()).isEqualTo(Document.DocumentStatus.COMPLETED.name());
+        JsonNode approvals = readJson("approvals");
+        assertThat(approvals.size()).isEqualTo(2);
+        assertThat(approvals.at(pointer(firstReviewer) + "/signatureId").asLong()).isEqualTo(11L);
+        assertThat(approvals.at(pointer(secondReviewer) + "/signatureId").asLong()).isEqualTo(12L);
+        assertThat(readJson("data").get("signatures").size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 검토자가 두 번 승인하면 두 번째는 적용되지 않는다")
+    void sameReviewerApprovesOnlyOnce() {
+        assertThat(approve(firstReviewer, 11L, null)).contains(2L);
+        assertThat(approve(firstReviewer, 11L, null)).isEmpty();
+
+        assertThat(status()).isEqualTo(Document.DocumentStatus.READY_FOR_REVIEW.name());
+        assertThat(readJson("approvals").size()).isEqualTo(1);
+        assertThat(version()).isEqualTo(2L);
+        assertThat(taskLogCount(firstReviewer)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거부하면 이전 승인과 승인 서명이 초기화된다")
+    void rejectClearsApprovalsAndSignatures() {
+        approve(firstReviewer, 11L, null);
+
+        Optional<Long> rejected = documentWorkflowRepository.applyTransition(documentId, DocumentTransition.REJECT,
+                secondReviewer.getId(), "내용 보완 필요", null, secondReviewer.getEmail(), null);
+
+        assertThat(rejected).contains(3L);
+        assertThat(status()).isEqualTo(Document.DocumentStatus.REJECTED.name());
+        assertThat(readJson("approvals").isEmpty()).isTrue();
+        JsonNode data = readJson("data");
+        assertThat(data.get("signatures").isEmpty()).isTrue();
+        assertThat(data.at("/coordinateData/name").asText()).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("기대 버전이 다르면 전이하지 않는다")
+    void expectedVersionMismatchReturnsEmpty() {
+        assertThat(approve(firstReviewer, 11L, 0L)).isEmpty();
+        assertThat(readJson("approvals").isEmpty()).isTrue();
+        assertThat(version()).isEqualTo(1L);
+        assertThat(taskLogCount(firstReviewer)).isZero();
+
+        assertThat(approve(firstReviewer, 11L, 1L)).contains(2L);
+    }
+
+    private Optional<Long> approve(User reviewer, Long signatureId, Long expectedVersion) {
+        ObjectNode reference = objectMapper.createObjectNode().put("signatureId", signatureId);
+        return documentWorkflowRepository.applyTransition(documentId, DocumentTransition.APPROVE,
+                reviewer.getId(), null, expectedVersion, reviewer.getEmail(), reference);
+    }
+
+    /**
+     * 다른 세션이 행 잠금을 기다릴 때까지 대기
+     */
+    private void awaitLockWait() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity " +
+                    "WHERE datname = current_database() AND wait_event_type = 'Lock'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+        throw new AssertionError("두 번째 승인이 행 잠금을 기다리지 않았습니다");
+    }
+
+    private String pointer(User reviewer) {
+        return "/" + reviewer.getEmail().replace("~", "~0").replace("/", "~1");
+    }
+
+    private String status() {
+        return jdbcTemplate.queryForObject("SELECT status FROM documents WHERE id = ?", String.class, documentId);
+    }
+
+    private long version() {
+        return jdbcTemplate.queryForObject("SELECT version FROM documents WHERE id = ?", Long.class, documentId);
+    }
+
+    private int taskLogCount(User reviewer) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tasks_log WHERE document_id = ? AND assigned_by_id = ?",
+                Integer.class, documentId, reviewer.getId());
+    }
+
+    private JsonNode readJson(String column) {
+        try {
+            return objectMapper.readTree(jdbcTemplate.queryForObject(
+                    "SELECT " + column + "::text FROM documents WHERE id = ?", String.class, documentId));
+        } catch (Exception e) {
+            throw new RuntimeException("문서 " + column + " 조회 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.TasksLog;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.exception.DocumentVersionConflictException;
+import com.hiswork.backend.repository.DocumentDataPatchRepository;
+import com.hiswork.backend.repository.DocumentRepository;
+import com.hiswork.backend.repository.TasksLogRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 자동 저장 버퍼의 병합, 문서 잠금, 기록 순서 테스트 (DB 없이 저장소는 목으로 대체)
+ */
+class DocumentAutosaveBufferTest {
+
+    private static final Long DOCUMENT_ID = 1L;
+    private static final long STORED_VERSION = 5L;
+
+    private DocumentRepository documentRepository;
+    private DocumentDataPatchRepository documentDataPatchRepository;
+    private StubTransactionManager transactionManager;
+    private DocumentAutosaveBuffer buffer;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        documentRepository = mock(DocumentRepository.class);
+        documentDataPatchRepository = mock(DocumentDataPatchRepository.class);
+        TasksLogRepository tasksLogRepository = mock(TasksLogRepository.class);
+        transactionManager = new StubTransactionManager();
+
+        when(documentRepository.findVersionById(DOCUMENT_ID)).thenReturn(Optional.of(STORED_VERSION));
+        when(documentRepository.getReferenceById(DOCUMENT_ID)).thenReturn(Document.builder().id(DOCUMENT_ID).build());
+        when(documentDataPatchRepository.writeData(eq(DOCUMENT_ID), any(), anyLong())).thenReturn(true);
+        when(tasksLogRepository.save(any(TasksLog.class))).thenAnswer(invocation -> {
+            TasksLog log = invocation.getArgument(0);
+            log.setId(100L);
+            return log;
+        });
+
+        buffer = new DocumentAutosaveBuffer(documentRepository, documentDataPatchRepository, tasksLogRepository,
+                mock(EntityManager.class), transactionManager);
+        ReflectionTestUtils.setField(buffer, "durability", DocumentAutosaveBuffer.Durability.BUFFERED);
+        ReflectionTestUtils.setField(buffer, "flushIntervalMs", 2000L);
+        ReflectionTestUtils.setField(buffer, "maxDelayMs", 10000L);
+        ReflectionTestUtils.setField(buffer, "maxPendingEdits", 20);
+        ReflectionTestUtils.setField(buffer, "sessionIdleMs", 600000L);
+        ReflectionTestUtils.setField(buffer, "lockTimeoutMs", 200L);
+
+        user = User.builder().id(UUID.randomUUID()).email("editor@handong.ac.kr").name("편집자").build();
+    }
+
+    @AfterEach
+    void locksAreReleased() {
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(buffer, "documentLocks")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연속 저장은 하나로 합쳐 마지막 data와 버전으로 한 번 기록된다")
+    void mergesEditsIntoSingleWrite() {
+        assertThat(buffer.submit(DOCUMENT_ID, data("첫 번째"), user, STORED_VERSION)).isEqualTo(STORED_VERSION + 1);
+        assertThat(buffer.submit(DOCUMENT_ID, data("두 번째"), user, STORED_VERSION + 1)).isEqualTo(STORED_VERSION + 2);
+        assertThat(buffer.currentVersion(DOCUMENT_ID)).isEqualTo(STORED_VERSION + 2);
+        verify(documentDataPatchRepository, never()).writeData(any(), any(), anyLong());
+
+        assertThat(buffer.flush(DOCUMENT_ID)).isTrue();
+
+        verify(documentDataPatchRepository, times(1)).writeData(any(), any(), anyLong());
+        verify(documentDataPatchRepository).writeData(DOCUMENT_ID, data("두 번째"), STORED_VERSION + 2);
+        assertThat(buffer.flush(DOCUMENT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 signatures는 버퍼에 담기지 않는다")
+    void stripsSignaturesFromSubmittedData() {
+        ObjectNode withSignatures = data("값");
+        withSignatures.putObject("signatures").putObject("reviewer@handong.ac.kr").put("signatureId", 99);
+
+        buffer.submit(DOCUMENT_ID, withSignatures, user, null);
+        buffer.flush(DOCUMENT_ID);
+
+        verify(documentDataPatchRepository).writeData(DOCUMENT_ID, data("값"), STORED_VERSION + 1);
+    }
+
+    @Test
+    @DisplayName("기대 버전이 현재 논리 버전과 다르면 충돌")
+    void rejectsStaleExpectedVersion() {
+        buffer.submit(DOCUMENT_ID, data("첫 번째"), user, STORED_VERSION);
+
+        assertThatThrownBy(() -> buffer.submit(DOCUMENT_ID, data("오래된 편집"), user, STORED_VERSION))
+                .isInstanceOf(DocumentVersionConflictException.class)
+                .extracting("currentVersion").isEqualTo(STORED_VERSION + 1);
+        buffer.flush(DOCUMENT_ID);
+    }
+
+    @Test
+    @DisplayName("기록이 롤백되면 편집은 버퍼에 남고 다음 flush에서 다시 기록된다")
+    void keepsEditWhenWriteRollsBack() {
+        buffer.submit(DOCUMENT_ID, data("값"), user, null);
+        when(documentDataPatchRepository.writeData(eq(DOCUMENT_ID), any(), anyLong()))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> buffer.flush(DOCUMENT_ID)).hasMessage("DB 오류");
+        assertThat(buffer.currentVersion(DOCUMENT_ID)).isEqualTo(STORED_VERSION + 1);
+
+        assertThat(buffer.flush(DOCUMENT_ID)).isTrue();
+        assertThat(buffer.flush(DOCUMENT_ID)).isFalse();
+        verify(documentDataPatchRepository, times(2)).writeData(DOCUMENT_ID, data("값"), STORED_VERSION + 1);
+    }
+
+    @Test
+    @DisplayName("flush한 트랜잭션이 끝날 때까지 같은 문서의 저장은 대기한다")
+    void holdsDocumentLockUntilOuterTransactionCompletes() throws Exception {
+        buffer.submit(DOCUMENT_ID, data("값"), user, null);
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+
+        outer.executeWithoutResult(status -> {
+            buffer.flush(DOCUMENT_ID);
+            // 같은 트랜잭션의 후속 버전 증가가 커밋되기 전에는 다른 스레드의 저장이 들어오지 않음
+            CompletableFuture<Long> blocked = CompletableFuture.supplyAsync(
+                    () -> buffer.submit(DOCUMENT_ID, data("대기"), user, null));
+            assertThatThrownBy(() -> blocked.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseMessage("다른 작업이 문서를 저장하고 있습니다. 잠시 후 다시 시도해주세요.");
+        });
+
+        long version = CompletableFuture.supplyAsync(() -> buffer.submit(DOCUMENT_ID, data("다음"), user, null))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(version).isEqualTo(STORED_VERSION + 1);
+        buffer.flush(DOCUMENT_ID);
+    }
+
+    @Test
+    @DisplayName("앞선 편집이 기록된 뒤의 편집은 더 높은 버전으로 기록된다")
+    void writesEditsInSubmissionOrder() {
+        buffer.submit(DOCUMENT_ID, data("첫 번째"), user, null);
+        buffer.flush(DOCUMENT_ID);
+        when(documentRepository.findVersionById(DOCUMENT_ID)).thenReturn(Optional.of(STORED_VERSION + 1));
+
+        buffer.submit(DOCUMENT_ID, data("두 번째"), user, STORED_VERSION + 1);
+        buffer.flush(DOCUMENT_ID);
+
+        InOrder order = inOrder(documentDataPatchRepository);
+        order.verify(documentDataPatchRepository).writeData(DOCUMENT_ID, data("첫 번째"), STORED_VERSION + 1);
+        order.verify(documentDataPatchRepository).writeData(DOCUMENT_ID, data("두 번째"), STORED_VERSION + 2);
+    }
+
+    @Test
+    @DisplayName("WRITE_THROUGH는 즉시 기록하고, 더 최신 버전이 이미 기록되어 있으면 충돌")
+    void writeThroughWritesImmediately() {
+        ReflectionTestUtils.setField(buffer, "durability", DocumentAutosaveBuffer.Durability.WRITE_THROUGH);
+
+        assertThat(buffer.submit(DOCUMENT_ID, data("값"), user, STORED_VERSION)).isEqualTo(STORED_VERSION + 1);
+        verify(documentDataPatchRepository).writeData(DOCUMENT_ID, data("값"), STORED_VERSION + 1);
+
+        when(documentDataPatchRepository.writeData(eq(DOCUMENT_ID), any(), anyLong())).thenReturn(false);
+        assertThatThrownBy(() -> buffer.submit(DOCUMENT_ID, data("늦은 편집"), user, null))
+                .isInstanceOf(DocumentVersionConflictException.class);
+    }
+
+    private ObjectNode data(String value) {
+        ObjectNode data = JsonNodeFactory.instance.objectNode();
+        data.putObject("coordinateData").put("name", value);
+        return data;
+    }
+
+    /**
+     * 트랜잭션 동기화만 제공하는 트랜잭션 관리자 (커밋/롤백 시 afterCommit/afterCompletion 호출)
+     */
+    private static class StubTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.TasksLog;
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.TemplateVersion;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.repository.DocumentRepository;
+import com.hiswork.backend.repository.DocumentRoleRepository;
+import com.hiswork.backend.repository.TasksLogRepository;
+import com.hiswork.backend.repository.TemplateRepository;
+import com.hiswork.backend.support.JdbcRoundTripCounter;
+import com.hiswork.backend.support.JdbcRoundTripCounterConfig;
+import com.hiswork.backend.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문서 생성 왕복 횟수 벤치마크 (user-038) - ./gradlew benchmark 로 실행
+ * 이전: 엔티티마다 save (IDENTITY라 즉시 INSERT) 후 상태 변경으로 문서를 한 번 더 저장
+ * 이후: 역할은 cascade, 작업 로그는 saveAll로 모아 시퀀스 ID + JDBC 배치로 테이블당 한 번 전송
+ * 실제 JDBC 실행/배치 실행/커밋 호출을 세어 생성 한 건당 왕복 수를 비교
+ */
+@Tag("benchmark")
+@Import(JdbcRoundTripCounterConfig.class)
+class DocumentCreationRoundTripBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentCreationRoundTripBenchmarkTest.class);
+
+    private static final int WARMUP = 20;
+    private static final int CREATIONS = 100;
+    // 문서, 역할, 작업 로그 테이블당 배치 한 번
+    private static final double MAX_INSERTS_PER_CREATION = 3;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentRoleRepository documentRoleRepository;
+
+    @Autowired
+    private TasksLogRepository tasksLogRepository;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcRoundTripCounter counter;
+
+    @Test
+    @DisplayName("편집자를 지정한 문서 생성은 테이블당 INSERT 왕복 한 번")
+    void documentCreationBatchesInsertsPerTable() {
+        User creator = createUser("creator");
+        User editor = createUser("editor");
+        Template template = createTemplate(creator);
+
+        Result before = measure(() -> createDocumentPerEntitySave(template.getId(), creator, editor));
+        Result after = measure(() -> documentService.createDocument(template.getId(), creator, editor.getEmail()));
+
+        report("이전 (엔티티별 저장)", before);
+        report("이후 (cascade + 배치)", after);
+
+        assertThat(after.perCreation("INSERT")).isLessThanOrEqualTo(MAX_INSERTS_PER_CREATION);
+        assertThat(after.perCreation("UPDATE")).isZero();
+        assertThat(after.totalPerCreation()).isLessThan(before.totalPerCreation());
+    }
+
+    private Result measure(Runnable creation) {
+        for (int i = 0; i < WARMUP; i++) {
+            creation.run();
+        }
+
+        counter.start();
+        long started = System.nanoTime();
+        try {
+            for (int i = 0; i < CREATIONS; i++) {
+                creation.run();
+            }
+        } finally {
+            counter.stop();
+        }
+        double averageMs = (System.nanoTime() - started) / 1_000_000.0 / CREATIONS;
+        return new Result(counter.snapshot(), averageMs);
+    }
+
+    /**
+     * 변경 이전 createDocument의 저장 순서 재현 - save마다 flush하여 IDENTITY의 즉시 INSERT와 같은 왕복을 만듦
+     */
+    private void createDocumentPerEntitySave(Long templateId, User creator, User editor) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Template template = templateRepository.findById(templateId)
+                    .orElseThrow(() -> new RuntimeException("Template not found"));
+            TemplateVersion templateVersion = template.getCurrentVersion();
+
+            Document document = documentRepository.saveAndFlush(Document.builder()
+                    .template(template)
+                    .templateVersion(templateVersion)
+                    .data(objectMapper.createObjectNode())
+                    .status(Document.DocumentStatus.DRAFT)
+                    .build());
+
+            documentRoleRepository.saveAndFlush(DocumentRole.builder()
+                    .document(document)
+                    .assignedUser(creator)
+                    .taskRole(DocumentRole.TaskRole.CREATOR)
+                    .build());
+            tasksLogRepository.saveAndFlush(TasksLog.builder()
+                    .document(document)
+                    .assignedBy(creator)
+                    .assignedUser(creator)
+                    .status(TasksLog.TaskStatus.COMPLETED)
+                    .completedAt(LocalDateTime.now())
+                    .build());
+
+            documentRoleRepository.saveAndFlush(DocumentRole.builder()
+                    .document(document)
+                    .assignedUser(editor)
+                    .taskRole(DocumentRole.TaskRole.EDITOR)
+                    .build());
+            tasksLogRepository.saveAndFlush(TasksLog.builder()
+                    .document(document)
+                    .assignedBy(creator)
+                    .assignedUser(editor)
+                    .status(TasksLog.TaskStatus.PENDING)
+                    .build());
+
+            document.setStatus(Document.DocumentStatus.EDITING);
+            documentRepository.saveAndFlush(document);
+        });
+    }
+
+    private void report(String label, Result result) {
+        StringBuilder verbs = new StringBuilder();
+        result.counts().forEach((verb, count) ->
+                verbs.append(String.format(Locale.ROOT, " %s=%.2f", verb, (double) count / CREATIONS)));
+        // 왕복 수만 검증하고 시간은 참고용으로 기록
+        log.info("[문서 생성] {}: 건당 왕복 {} ({}), 평균 {} ms", label,
+                String.format(Locale.ROOT, "%.2f", result.totalPerCreation()), verbs.toString().trim(),
+                String.format(Locale.ROOT, "%.3f", result.averageMs()));
+    }
+
+    private record Result(Map<String, Long> counts, double averageMs) {
+
+        double perCreation(String verb) {
+            return (double) counts.getOrDefault(verb, 0L) / CREATIONS;
+        }
+
+        double totalPerCreation() {
+            return (double) counts.values().stream().mapToLong(Long::longValue).sum() / CREATIONS;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.hiswork.backend.domain.DocumentRole;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.DocumentFieldUpdateRequest;
+import com.hiswork.backend.dto.DocumentFieldUpdateRequest.FieldChange;
+import com.hiswork.backend.dto.DocumentFieldUpdateResponse;
+import com.hiswork.backend.repository.DocumentDataPatchRepository;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.LockedData;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.Operation;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.OperationType;
+import com.hiswork.backend.repository.DocumentDataPatchRepository.PatchResult;
+import com.hiswork.backend.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 필드 단위 병합 테스트 - 저장된 data는 잠금 조회 결과로, 기록은 전달된 패치 연산으로 확인
+ * 저장된 문서: 버전 7, name 필드 버전 3 (다른 사용자가 먼저 저장), 표 셀 t1:0:1 버전 1
+ */
+class DocumentFieldMergeServiceTest {
+
+    private static final Long DOCUMENT_ID = 1L;
+    private static final long DOCUMENT_VERSION = 7L;
+    private static final String STORED_DATA = "{" +
+            "\"coordinateData\":{\"name\":\"홍길동\",\"dept\":\"전산\"}," +
+            "\"table data\":[{\"tableId\":\"t1\",\"location_row\":\"0\",\"location_column\":\"1\",\"value\":\"x\"}]," +
+            "\"fieldVersions\":{\"name\":3,\"t1:0:1\":1}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DocumentDataPatchRepository documentDataPatchRepository;
+    private DocumentFieldMergeService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        documentDataPatchRepository = mock(DocumentDataPatchRepository.class);
+        DocumentPermissionService documentPermissionService = mock(DocumentPermissionService.class);
+        user = User.builder().id(UUID.randomUUID()).email("editor@handong.ac.kr").name("편집자").build();
+
+        when(documentPermissionService.getRoles(DOCUMENT_ID, user)).thenReturn(Set.of(DocumentRole.TaskRole.EDITOR));
+        when(documentDataPatchRepository.lockData(DOCUMENT_ID))
+                .thenReturn(Optional.of(new LockedData(objectMapper.readTree(STORED_DATA), DOCUMENT_VERSION)));
+        when(documentDataPatchRepository.apply(eq(DOCUMENT_ID), anyList(), eq(DOCUMENT_VERSION)))
+                .thenReturn(Optional.of(new PatchResult(100, DOCUMENT_VERSION + 1)));
+
+        service = new DocumentFieldMergeService(documentDataPatchRepository, mock(DocumentRepository.class),
+                documentPermissionService, mock(DocumentAutosaveBuffer.class), objectMapper);
+    }
+
+    @Test
+    @DisplayName("같은 필드를 이전 버전 기준으로 다른 값으로 저장하면 충돌")
+    void staleBaseVersionOnSameFieldConflicts() {
+        DocumentFieldUpdateResponse response = update(field("name", "김철수", 2L));
+
+        assertThat(response.getApplied()).isEmpty();
+        assertThat(response.getVersion()).isEqualTo(DOCUMENT_VERSION);
+        assertThat(response.getConflicts()).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getField()).isEqualTo("name");
+            assertThat(conflict.getCurrentVersion()).isEqualTo(3L);
+            assertThat(conflict.getCurrentValue().asText()).isEqualTo("홍길동");
+        });
+        verify(documentDataPatchRepository, never()).apply(any(), anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 고친 필드와 다른 필드는 병합되고 해당 필드만 기록된다")
+    void differentFieldsAreMerged() {
+        DocumentFieldUpdateResponse response = update(field("name", "김철수", 2L), field("dept", "행정", 0L));
+
+        assertThat(response.getApplied()).containsExactly(Map.entry("dept", 1L));
+        assertThat(response.getConflicts()).extracting("field").containsExactly("name");
+        assertThat(response.getVersion()).isEqualTo(DOCUMENT_VERSION + 1);
+
+        List<Operation> operations = appliedOperations();
+        assertThat(operations).extracting(Operation::getType)
+                .containsExactly(OperationType.MERGE, OperationType.MERGE);
+        assertThat(operations.get(0).getPath()).containsExactly("coordinateData");
+        assertThat(operations.get(0).getValue().toString()).isEqualTo("{\"dept\":\"행정\"}");
+        assertThat(operations.get(1).getPath()).containsExactly("fieldVersions");
+        assertThat(operations.get(1).getValue().toString()).isEqualTo("{\"dept\":1}");
+    }
+
+    @Test
+    @DisplayName("이전 버전 기준이어도 현재 값과 같으면 충돌이 아니다")
+    void staleBaseVersionWithEqualValueIsNotConflict() {
+        DocumentFieldUpdateResponse response = update(field("name", "홍길동", 2L));
+
+        assertThat(response.getConflicts()).isEmpty();
+        assertThat(response.getApplied()).containsExactly(Map.entry("name", 4L));
+    }
+
+    @Test
+    @DisplayName("빈 값으로 저장한 표 셀은 표 데이터에서 제거된다")
+    void emptyValueClearsTableCell() {
+        FieldChange change = new FieldChange();
+        change.setTableId("t1");
+        change.setRow("0");
+        change.setColumn("1");
+        change.setValue(TextNode.valueOf(""));
+        change.setBaseVersion(1L);
+
+        DocumentFieldUpdateResponse response = update(change);
+
+        assertThat(response.getApplied()).containsExactly(Map.entry("t1:0:1", 2L));
+        Operation tableOperation = appliedOperations().get(0);
+        assertThat(tableOperation.getType()).isEqualTo(OperationType.SET);
+        assertThat(tableOperation.getPath()).containsExactly("table data");
+        assertThat(tableOperation.getValue().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 요청에 같은 필드가 여러 번 있으면 마지막 값만 반영하고 버전은 한 번 증가")
+    void duplicateKeysKeepLastChange() {
+        DocumentFieldUpdateResponse response = update(field("name", "김철수", 3L), field("name", "이영희", 3L));
+
+        assertThat(response.getConflicts()).isEmpty();
+        assertThat(response.getApplied()).containsExactly(Map.entry("name", 4L));
+        List<Operation> operations = appliedOperations();
+        assertThat(operations.get(0).getValue().toString()).isEqualTo("{\"name\":\"이영희\"}");
+        assertThat(operations.get(1).getValue().toString()).isEqualTo("{\"name\":4}");
+    }
+
+    private DocumentFieldUpdateResponse update(FieldChange... changes) {
+        DocumentFieldUpdateRequest request = new DocumentFieldUpdateRequest();
+        request.setChanges(List.of(changes));
+        return service.updateFields(DOCUMENT_ID, request, user);
+    }
+
+    private FieldChange field(String fieldId, String value, Long baseVersion) {
+        FieldChange change = new FieldChange();
+        change.setFieldId(fieldId);
+        change.setValue(TextNode.valueOf(value));
+        change.setBaseVersion(baseVersion);
+        return change;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Operation> appliedOperations() {
+        ArgumentCaptor<List<Operation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(documentDataPatchRepository).apply(eq(DOCUMENT_ID), captor.capture(), eq(DOCUMENT_VERSION));
+        return captor.getValue();
+    }
+}
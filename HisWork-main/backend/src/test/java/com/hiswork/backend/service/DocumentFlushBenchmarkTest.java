@@ -0,0 +1,174 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.support.JdbcRoundTripCounter;
+import com.hiswork.backend.support.JdbcRoundTripCounterConfig;
+import com.hiswork.backend.support.PostgresIntegrationTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 500 KB 문서 flush 벤치마크 (user-044) - ./gradlew benchmark 로 실행
+ * 이후: JsonNodeType(불변 값, 참조 스냅샷) + @DynamicUpdate - 상태만 바꾼 flush는 data를 비교/직렬화/기록하지 않음
+ * 이전(재현): 변경 가능한 JSON 매핑이 하던 작업 - 로딩 시 트리 복사, flush 시 내용 비교, UPDATE마다 data 직렬화 및 기록
+ */
+@Tag("benchmark")
+@Import(JdbcRoundTripCounterConfig.class)
+class DocumentFlushBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentFlushBenchmarkTest.class);
+
+    private static final int TARGET_DATA_BYTES = 500 * 1024;
+    private static final int WARMUP = 5;
+    private static final int FLUSHES = 30;
+    private static final Pattern DATA_COLUMN = Pattern.compile("\\bdata\\s*=");
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcRoundTripCounter counter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("상태만 바꾼 500 KB 문서의 flush는 data를 다시 기록하지 않는다")
+    void statusOnlyFlushSkipsLargeData() throws Exception {
+        User creator = createUser("creator");
+        Template template = createTemplate(creator);
+        Long documentId = documentService.createDocument(template.getId(), creator, null).getId();
+        JsonNode data = largeData();
+        int dataBytes = objectMapper.writeValueAsBytes(data).length;
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.find(Document.class, documentId).setData(data));
+
+        long[] before = new long[2];
+        long[] after = new long[2];
+        for (int i = 0; i < WARMUP; i++) {
+            flushBefore(documentId, new long[2]);
+            flushAfter(documentId, new long[2]);
+        }
+
+        for (int i = 0; i < FLUSHES; i++) {
+            flushBefore(documentId, before);
+        }
+        counter.start();
+        try {
+            for (int i = 0; i < FLUSHES; i++) {
+                flushAfter(documentId, after);
+            }
+        } finally {
+            counter.stop();
+        }
+
+        // 시간은 참고용으로만 기록 (실행 환경에 따라 달라지므로 검증하지 않음)
+        log.info("[문서 flush] data {} bytes, {}회 평균", dataBytes, FLUSHES);
+        log.info("[문서 flush] 이전: 로딩 스냅샷 {} ms, flush {} ms", ms(before[0]), ms(before[1]));
+        log.info("[문서 flush] 이후: 로딩 스냅샷 {} ms, flush {} ms", ms(after[0]), ms(after[1]));
+
+        List<String> documentUpdates = counter.statements().stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("update documents"))
+                .toList();
+        assertThat(dataBytes).isGreaterThanOrEqualTo(TARGET_DATA_BYTES);
+        assertThat(documentUpdates).hasSize(FLUSHES);
+        assertThat(documentUpdates).noneMatch(sql -> DATA_COLUMN.matcher(sql.toLowerCase(Locale.ROOT)).find());
+    }
+
+    /**
+     * 현재 매핑 - 상태만 변경 후 flush (스냅샷은 같은 참조이므로 로딩 비용 없음)
+     */
+    private void flushAfter(Long documentId, long[] elapsed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Document document = entityManager.find(Document.class, documentId);
+            document.setStatus(nextStatus(document.getStatus()));
+
+            long started = System.nanoTime();
+            entityManager.flush();
+            elapsed[1] += System.nanoTime() - started;
+        });
+    }
+
+    /**
+     * 이전 매핑의 작업 재현 - 로딩 시 트리 복사, flush 시 내용 비교 후 모든 컬럼(data 포함)을 다시 기록
+     */
+    private void flushBefore(Long documentId, long[] elapsed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Document document = entityManager.find(Document.class, documentId);
+
+            long loaded = System.nanoTime();
+            JsonNode snapshot = document.getData().deepCopy();
+            elapsed[0] += System.nanoTime() - loaded;
+
+            long started = System.nanoTime();
+            boolean dataDirty = !snapshot.equals(document.getData());
+            try {
+                jdbcTemplate.update("UPDATE documents SET status = ?, data = CAST(? AS jsonb), version = version + 1, " +
+                                "updated_at = now() WHERE id = ?",
+                        nextStatus(document.getStatus()).name(), objectMapper.writeValueAsString(document.getData()), documentId);
+            } catch (Exception e) {
+                throw new RuntimeException("이전 방식 flush 재현 실패: " + e.getMessage(), e);
+            }
+            elapsed[1] += System.nanoTime() - started;
+            assertThat(dataDirty).isFalse();
+        });
+    }
+
+    private Document.DocumentStatus nextStatus(Document.DocumentStatus current) {
+        return current == Document.DocumentStatus.EDITING
+                ? Document.DocumentStatus.READY_FOR_REVIEW : Document.DocumentStatus.EDITING;
+    }
+
+    /**
+     * 좌표 필드/표 데이터가 많은 문서와 비슷한 500 KB 이상 data 트리
+     */
+    private JsonNode largeData() throws Exception {
+        ObjectNode data = objectMapper.createObjectNode();
+        ArrayNode fields = data.putArray("coordinateFields");
+        int index = 0;
+        while (objectMapper.writeValueAsBytes(data).length < TARGET_DATA_BYTES) {
+            for (int i = 0; i < 100; i++, index++) {
+                ObjectNode field = fields.addObject();
+                field.put("id", "field_" + index);
+                field.put("type", "text");
+                field.put("label", "항목 " + index);
+                field.put("x", index % 500);
+                field.put("y", index / 500);
+                field.put("width", 120);
+                field.put("height", 20);
+                field.put("value", "입력 값 " + index + " - 문서 편집 중 저장된 내용");
+            }
+        }
+        return data;
+    }
+
+    private String ms(long totalNanos) {
+        return String.format(Locale.ROOT, "%.3f", totalNanos / 1_000_000.0 / FLUSHES);
+    }
+}
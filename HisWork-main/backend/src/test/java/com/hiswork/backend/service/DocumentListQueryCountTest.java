@@ -0,0 +1,68 @@
+package com.hiswork.backend.service;
+
+import com.hiswork.backend.domain.Document;
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.dto.DocumentResponse;
+import com.hiswork.backend.support.PostgresIntegrationTest;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문서 목록 조회 SQL 수 회귀 테스트 (user-031)
+ * 목록 조회와 응답 변환(트랜잭션 밖, open-in-view 끔)에서 실행되는 SQL 수가 문서 수와 무관해야 함
+ */
+class DocumentListQueryCountTest extends PostgresIntegrationTest {
+
+    // 엔티티 그래프 조회 한 번 (+ 여유 한 번) - 문서마다 지연 로딩이 생기면 이 값을 넘음
+    private static final long MAX_STATEMENTS = 2;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Test
+    @DisplayName("문서 목록 조회 SQL 수는 문서 수와 무관하다")
+    void documentListStatementCountDoesNotGrowWithDocuments() {
+        User creator = createUser("creator");
+        Template template = createTemplate(creator);
+        User fewDocumentsUser = createUser("few");
+        User manyDocumentsUser = createUser("many");
+
+        for (int i = 0; i < 3; i++) {
+            documentService.createDocument(template.getId(), creator, fewDocumentsUser.getEmail());
+        }
+        for (int i = 0; i < 30; i++) {
+            documentService.createDocument(template.getId(), creator, manyDocumentsUser.getEmail());
+        }
+
+        long fewStatements = countListStatements(fewDocumentsUser, 3);
+        long manyStatements = countListStatements(manyDocumentsUser, 30);
+
+        assertThat(manyStatements)
+                .as("문서 30건 목록의 SQL 수 (3건: %d)", fewStatements)
+                .isEqualTo(fewStatements);
+        assertThat(manyStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    /**
+     * 컨트롤러와 같은 순서로 목록 조회 후 응답 변환하고 실행된 SQL 수 반환
+     */
+    private long countListStatements(User user, int expectedDocuments) {
+        Statistics statistics = resetStatistics();
+
+        List<Document> documents = documentService.getDocumentsByUser(user);
+        List<DocumentResponse> responses = documents.stream()
+                .map(DocumentResponse::from)
+                .toList();
+
+        assertThat(responses).hasSize(expectedDocuments);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getTasks()).hasSize(2));
+        return statistics.getPrepareStatementCount();
+    }
+}
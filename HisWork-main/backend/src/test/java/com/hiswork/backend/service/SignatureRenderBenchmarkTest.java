@@ -0,0 +1,147 @@
+package com.hiswork.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.hiswork.backend.domain.SignatureBlob;
+import com.hiswork.backend.util.SignatureImageNormalizer;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.CubicCurve2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 서명 렌더링 벤치마크 (user-030) - ./gradlew benchmark 로 실행
+ * 이전: 렌더링마다 문서 data의 base64 원본(스캔 크기 RGBA PNG)을 디코딩/파싱
+ * 이후: 등록 시 정규화한 그레이스케일 PNG를 저장소 참조로 읽고 ImageData 캐시 사용
+ * 같은 서명 필드 하나를 가진 한 페이지 PDF를 반복 생성하여 평균 시간과 PDF 크기 비교
+ */
+@Tag("benchmark")
+class SignatureRenderBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SignatureRenderBenchmarkTest.class);
+
+    private static final int WARMUP = 20;
+    private static final int RENDERS = 200;
+    private static final long SIGNATURE_ID = 1L;
+
+    @Test
+    @DisplayName("정규화 + 캐시 서명 렌더링은 원본 디코딩보다 PDF가 작고 저장소 조회는 한 번")
+    void normalizedCachedSignatureRendersSmallerPdf() throws IOException {
+        byte[] original = rawSignaturePng();
+        String legacyDataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(original);
+
+        SignatureImageNormalizer normalizer = new SignatureImageNormalizer();
+        ReflectionTestUtils.setField(normalizer, "maxWidth", 600);
+        ReflectionTestUtils.setField(normalizer, "maxHeight", 200);
+        byte[] normalized = normalizer.normalize(new ByteArrayInputStream(original));
+
+        SignatureService signatureService = mock(SignatureService.class);
+        when(signatureService.getSignature(anyLong())).thenReturn(Optional.of(SignatureBlob.builder()
+                .id(SIGNATURE_ID)
+                .contentType("image/png")
+                .size(normalized.length)
+                .sha256("benchmark-signature")
+                .content(normalized)
+                .build()));
+        SignatureImageCache cache = new SignatureImageCache(signatureService, 256);
+        JsonNode reference = JsonNodeFactory.instance.objectNode().put(SignatureService.SIGNATURE_ID_FIELD, SIGNATURE_ID);
+
+        Result before = measure(() -> ImageDataFactory.create(
+                Base64.getDecoder().decode(legacyDataUrl.substring(legacyDataUrl.indexOf(',') + 1))));
+        Result after = measure(() -> cache.getImageData(reference));
+
+        // 시간은 참고용으로만 기록 (실행 환경에 따라 달라지므로 검증하지 않음)
+        log.info("[서명 렌더링] 원본 PNG {} bytes -> 정규화 PNG {} bytes", original.length, normalized.length);
+        log.info("[서명 렌더링] 이전: 평균 {} ms, PDF {} bytes", ms(before.averageMs()), before.pdfBytes());
+        log.info("[서명 렌더링] 이후: 평균 {} ms, PDF {} bytes", ms(after.averageMs()), after.pdfBytes());
+
+        assertThat(normalized.length).isLessThan(original.length);
+        assertThat(after.pdfBytes()).isLessThan(before.pdfBytes());
+        verify(signatureService, times(1)).getSignature(SIGNATURE_ID);
+    }
+
+    private Result measure(Supplier<ImageData> imageSource) {
+        for (int i = 0; i < WARMUP; i++) {
+            render(imageSource.get());
+        }
+
+        long pdfBytes = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < RENDERS; i++) {
+            pdfBytes = render(imageSource.get());
+        }
+        double averageMs = (System.nanoTime() - started) / 1_000_000.0 / RENDERS;
+        return new Result(averageMs, pdfBytes);
+    }
+
+    /**
+     * PdfService와 같은 방식으로 서명 필드(150x50) 하나를 그린 PDF 크기 반환
+     */
+    private long render(ImageData imageData) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfWriter(out))) {
+            PdfCanvas canvas = new PdfCanvas(pdfDoc.addNewPage(PageSize.A4));
+            canvas.addImageWithTransformationMatrix(imageData, 150, 0, 0, 50, 100, 600, false);
+        }
+        return out.size();
+    }
+
+    /**
+     * 태블릿/스캔 서명과 비슷한 1200x400 RGBA PNG (흰 배경 + 여백 + 검은 획)
+     */
+    private byte[] rawSignaturePng() throws IOException {
+        BufferedImage image = new BufferedImage(1200, 400, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 1200, 400);
+        g.setColor(new Color(20, 20, 30));
+        g.setStroke(new BasicStroke(6f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        for (int i = 0; i < 6; i++) {
+            int x = 200 + i * 130;
+            g.draw(new CubicCurve2D.Float(x, 260, x + 40, 80, x + 90, 320, x + 150, 140));
+        }
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "PNG", out);
+        return out.toByteArray();
+    }
+
+    private String ms(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private record Result(double averageMs, long pdfBytes) {
+    }
+}
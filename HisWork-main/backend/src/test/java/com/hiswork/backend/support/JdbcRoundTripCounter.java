@@ -0,0 +1,150 @@
+package com.hiswork.backend.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC 왕복 횟수 집계 - 실행(execute*)/배치 실행(executeBatch)/커밋을 SQL 종류별로 셈
+ * Hibernate Statistics는 준비된 문장 수를 세므로 배치 한 번에 여러 행을 보내는 경우 실제 왕복 수와 다름
+ * 기록 중인 스레드의 호출만 집계 (예약 작업 등 다른 스레드의 SQL은 제외)
+ */
+public class JdbcRoundTripCounter {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+    private volatile Thread recordingThread;
+
+    public void start() {
+        counts.clear();
+        statements.clear();
+        recordingThread = Thread.currentThread();
+    }
+
+    public void stop() {
+        recordingThread = null;
+    }
+
+    public long count(String verb) {
+        AtomicLong count = counts.get(verb);
+        return count != null ? count.get() : 0;
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    /**
+     * SQL 종류별 집계 (정렬된 사본)
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((verb, count) -> snapshot.put(verb, count.get()));
+        return snapshot;
+    }
+
+    /**
+     * 기록 중 실행된 SQL (실행 순서, 배치는 한 번만)
+     */
+    public List<String> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            if ("commit".equals(method.getName())) {
+                record("COMMIT", "COMMIT");
+            }
+            Object result = target.invoke(method, args);
+            if (result instanceof PreparedStatement statement && method.getName().startsWith("prepare")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+                Class<? extends PreparedStatement> type = result instanceof CallableStatement
+                        ? CallableStatement.class : PreparedStatement.class;
+                return wrapStatement(type, statement, sql);
+            }
+            if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T wrapStatement(Class<T> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+                record(verb(sql), sql);
+            }
+            return target.invoke(method, args);
+        });
+    }
+
+    private void record(String verb, String sql) {
+        if (Thread.currentThread() == recordingThread) {
+            counts.computeIfAbsent(verb, key -> new AtomicLong()).incrementAndGet();
+            if (sql != null) {
+                statements.add(sql);
+            }
+        }
+    }
+
+    private String verb(String sql) {
+        if (sql == null) {
+            return "BATCH";
+        }
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end > 0 ? trimmed.substring(0, end).toUpperCase(Locale.ROOT) : "OTHER";
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, Object delegate, Interceptor interceptor) {
+        Invoker target = (method, args) -> {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                return target.invoke(method, args);
+            }
+            return interceptor.intercept(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Invoker {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object intercept(Invoker target, Method method, Object[] args) throws Throwable;
+    }
+}
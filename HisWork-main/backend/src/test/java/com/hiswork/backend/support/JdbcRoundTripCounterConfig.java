@@ -0,0 +1,54 @@
+package com.hiswork.backend.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 애플리케이션 DataSource를 왕복 횟수 집계용으로 감쌈 - 필요한 테스트에서 @Import
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class JdbcRoundTripCounterConfig {
+
+    private static final JdbcRoundTripCounter COUNTER = new JdbcRoundTripCounter();
+
+    @Bean
+    public JdbcRoundTripCounter jdbcRoundTripCounter() {
+        return COUNTER;
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcRoundTripCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return COUNTER.wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return COUNTER.wrap(super.getConnection(username, password));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.hiswork.backend.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiswork.backend.domain.Template;
+import com.hiswork.backend.domain.User;
+import com.hiswork.backend.repository.UserRepository;
+import com.hiswork.backend.service.TemplateService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+/**
+ * 실제 PostgreSQL(jsonb, 배치 INSERT 재작성)로 실행하는 통합 테스트 기반 클래스
+ * 컨테이너는 테스트 클래스 사이에서 공유하며, Docker가 없으면 테스트를 건너뜀
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        if (!POSTGRES.isRunning()) {
+            POSTGRES.start();
+        }
+        String jdbcUrl = POSTGRES.getJdbcUrl();
+        registry.add("spring.datasource.url",
+                () -> jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected TemplateService templateService;
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    /**
+     * 테스트마다 겹치지 않는 이메일로 사용자 생성
+     */
+    protected User createUser(String prefix) {
+        return userRepository.save(User.builder()
+                .email(prefix + "-" + UUID.randomUUID() + "@handong.ac.kr")
+                .password("test-password")
+                .name(prefix)
+                .position(User.Position.교직원)
+                .role(User.Role.USER)
+                .build());
+    }
+
+    /**
+     * 텍스트 필드 하나를 가진 PDF 템플릿 생성 (현재 버전 1 포함)
+     */
+    protected Template createTemplate(User creator) {
+        try {
+            return templateService.savePdfTemplate(Template.builder()
+                    .name("테스트 템플릿")
+                    .description("통합 테스트용")
+                    .isPublic(false)
+                    .pdfFilePath("./build/test-uploads/pdf-templates/test.pdf")
+                    .pdfImagePath("./build/test-uploads/pdf-templates/test.png")
+                    .coordinateFields(objectMapper.readTree(
+                            "[{\"id\":\"name\",\"type\":\"text\",\"label\":\"이름\",\"x\":10,\"y\":10,\"width\":100,\"height\":20}]"))
+                    .createdBy(creator)
+                    .build());
+        } catch (Exception e) {
+            throw new RuntimeException("테스트 템플릿 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    protected Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 2차 캐시 비우고 통계 초기화 - 이후 실행되는 SQL만 집계
+     */
+    protected Statistics resetStatistics() {
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = statistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -4,6 +4,7 @@ import { useDocumentStore, type Document } from '../stores/documentStore';
 import { useAuthStore } from '../stores/authStore';
 import PdfViewer from '../components/PdfViewer';
 import axios from 'axios';
+import { fetchSignatureUrls, resolveSignatureSrc, type SignatureUrls } from '../utils/signatureUtils';
 
 interface User {
   id: number;
@@ -27,6 +28,7 @@ const DocumentList: React.FC = () => {
   const { user: currentUser } = useAuthStore();
   const [showPreview, setShowPreview] = useState(false);
   const [previewDocument, setPreviewDocument] = useState<Document | null>(null);
+  const [previewSignatureUrls, setPreviewSignatureUrls] = useState<SignatureUrls>({});
   const [coordinateFields, setCoordinateFields] = useState<any[]>([]);
   const [showHistory, setShowHistory] = useState(false);
   const [selectedDocumentId, setSelectedDocumentId] = useState<number | null>(null);
@@ -43,6 +45,10 @@ const DocumentList: React.FC = () => {
       if (document) {
         console.log('🔍 DocumentList - 미리보기 문서:', document);
         setPreviewDocument(document);
+        setPreviewSignatureUrls({});
+        fetchSignatureUrls(document.id)
+          .then(setPreviewSignatureUrls)
+          .catch(error => console.error('서명 URL 조회 실패:', error));
         
         // 템플릿 필드와 저장된 필드를 합쳐서 설정
         let allFields: any[] = [];
@@ -405,7 +411,7 @@ const DocumentList: React.FC = () => {
                     
                     return signatureFields.map(field => ({
                       ...field,
-                      signatureData: signatures[field.reviewerEmail]
+                      signatureData: resolveSignatureSrc(signatures[field.reviewerEmail], previewSignatureUrls[field.reviewerEmail])
                     }));
                   })()}
                 />
@@ -5,6 +5,7 @@ import { useAuthStore } from '../stores/authStore';
 import { SignatureModal } from '../components/SignatureModal';
 import PdfViewer from '../components/PdfViewer';
 import axios from 'axios';
+import { fetchSignatureUrls, resolveSignatureSrc, toSignatureFormData, type SignatureUrls } from '../utils/signatureUtils';
 
 interface RejectModalProps {
   isOpen: boolean;
@@ -80,6 +81,16 @@ const DocumentReview: React.FC = () => {
     }
   }, [id, getDocument]);
 
+  // 서명 이미지 서명 URL (문서가 바뀔 때마다 새로 발급)
+  const [signatureUrls, setSignatureUrls] = useState<SignatureUrls>({});
+
+  useEffect(() => {
+    if (!currentDocument?.id) return;
+    fetchSignatureUrls(currentDocument.id)
+      .then(setSignatureUrls)
+      .catch(error => console.error('서명 URL 조회 실패:', error));
+  }, [currentDocument?.id, currentDocument?.data?.signatures]);
+
   // 검토자 권한 확인
   const isReviewer = () => {
     if (!currentDocument || !user) return false;
@@ -119,20 +130,15 @@ const DocumentReview: React.FC = () => {
         token: token ? '있음' : '없음'
       });
       
-      const requestBody = {
-        signatureData,
-        reviewerEmail: user.email
-      };
-      
-      console.log('📤 요청 본문:', requestBody);
+      // 서명 이미지는 base64 문자열 대신 바이너리(multipart)로 전송
+      const requestBody = await toSignatureFormData(signatureData);
       
       const response = await axios.post(
         `http://localhost:8080/api/documents/${currentDocument.id}/approve`,
         requestBody,
         {
           headers: {
-            'Authorization': `Bearer ${token}`,
-            'Content-Type': 'application/json'
+            'Authorization': `Bearer ${token}`
           }
         }
       );
@@ -349,7 +355,7 @@ const DocumentReview: React.FC = () => {
                 
                 const mappedFields = signatureFields.map(field => {
                   // 해당 검토자의 서명 데이터 찾기
-                  const signatureData = signatures[field.reviewerEmail];
+                  const signatureData = resolveSignatureSrc(signatures[field.reviewerEmail], signatureUrls[field.reviewerEmail]);
                   console.log(`🔍 서명 필드 매핑 - ${field.reviewerName} (${field.reviewerEmail}):`, {
                     fieldId: field.id,
                     hasSignatureData: !!signatureData,
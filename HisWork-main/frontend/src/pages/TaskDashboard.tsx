@@ -4,6 +4,7 @@ import { useDocumentStore, type Document } from '../stores/documentStore';
 import { useAuthStore } from '../stores/authStore';
 import { SignatureModal } from '../components/SignatureModal';
 import axios from 'axios';
+import { toSignatureFormData } from '../utils/signatureUtils';
 
 interface ReviewSignature {
   documentId: number;
@@ -249,13 +250,10 @@ const TaskDashboard: React.FC = () => {
       // authStore에서 토큰 가져오기
       const { token } = useAuthStore.getState();
       
-      // 서명 데이터와 함께 승인 요청
+      // 서명 이미지를 바이너리(multipart)로 첨부하여 승인 요청
       await axios.post(
         `http://localhost:8080/api/documents/${currentReviewDocument.id}/approve`,
-        {
-          signatureData,
-          reviewerEmail: user.email
-        },
+        await toSignatureFormData(signatureData),
         {
           headers: {
             'Authorization': `Bearer ${token}`
@@ -1,12 +1,13 @@
 import { create } from 'zustand';
 import axios from 'axios';
+import type { SignatureValue } from '../utils/signatureUtils';
 
 export interface DocumentData {
   // 기본 필드
   title?: string;
   content?: string;
   createdAt?: string;
-  signatures?: Record<string, string>; // 검토자별 서명 데이터 (email -> base64)
+  signatures?: Record<string, SignatureValue>; // 검토자별 서명 참조 (email -> 서명 저장소 참조)
   // 필드 정의와 데이터
   coordinateFields?: any[]; // 사용자가 추가한 필드들
   signatureFields?: any[]; // 서명 필드들
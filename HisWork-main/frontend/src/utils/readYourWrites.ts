@@ -0,0 +1,26 @@
+/**
+ * 쓰기 직후 읽기 일관성 (read-your-writes)
+ * 변경 요청 응답의 주 DB 고정 만료 시각을 기억했다가 이후 요청에 그대로 보냅니다.
+ * 어느 백엔드 노드로 요청이 가도 만료 전까지는 복제본이 아닌 주 DB에서 읽습니다. (만료 판단은 서버가 합니다)
+ */
+
+import axios from 'axios';
+
+const PIN_HEADER = 'X-Read-Your-Writes-Until';
+
+let pinnedUntil: string | null = null;
+
+axios.interceptors.request.use((config) => {
+  if (pinnedUntil) {
+    config.headers.set(PIN_HEADER, pinnedUntil);
+  }
+  return config;
+});
+
+axios.interceptors.response.use((response) => {
+  const until = response.headers[PIN_HEADER.toLowerCase()];
+  if (typeof until === 'string' && (!pinnedUntil || Number(until) > Number(pinnedUntil))) {
+    pinnedUntil = until;
+  }
+  return response;
+});
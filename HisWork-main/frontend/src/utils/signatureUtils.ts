@@ -0,0 +1,48 @@
+/**
+ * 서명 데이터 유틸리티
+ * 서명 이미지는 백엔드 서명 저장소에 바이너리로 저장되고, 문서 data에는 참조만 남습니다.
+ * 이미지는 문서 참여자에게 발급되는 단기 서명 URL로만 조회할 수 있습니다.
+ */
+
+import axios from 'axios';
+
+const SERVER_BASE_URL = 'http://localhost:8080';
+const API_BASE_URL = `${SERVER_BASE_URL}/api`;
+
+// 문서 data.signatures의 값: 서명 저장소 참조 또는 (레거시) base64 data URL
+export type SignatureValue = string | { signatureId: number };
+
+// 검토자 이메일 → 서명 이미지 서명 URL
+export type SignatureUrls = Record<string, string>;
+
+/**
+ * 문서에 포함된 서명 이미지의 서명 URL 조회 (문서 참여자만 발급 가능)
+ */
+export const fetchSignatureUrls = async (documentId: number): Promise<SignatureUrls> => {
+  const response = await axios.get(`${API_BASE_URL}/documents/${documentId}/signature-urls`);
+  const urls: SignatureUrls = {};
+  Object.entries<string>(response.data.urls || {}).forEach(([email, path]) => {
+    urls[email] = `${SERVER_BASE_URL}${path}`;
+  });
+  return urls;
+};
+
+/**
+ * 서명 값을 <img src>에 사용할 수 있는 URL로 변환
+ * 저장소 참조는 fetchSignatureUrls로 받은 서명 URL이 있어야 표시됩니다.
+ */
+export const resolveSignatureSrc = (value?: SignatureValue | null, signedUrl?: string): string | undefined => {
+  if (!value) return undefined;
+  if (typeof value === 'string') return value;
+  return signedUrl;
+};
+
+/**
+ * 서명 패드의 data URL을 multipart 업로드용 FormData로 변환
+ */
+export const toSignatureFormData = async (signatureDataUrl: string): Promise<FormData> => {
+  const blob = await (await fetch(signatureDataUrl)).blob();
+  const formData = new FormData();
+  formData.append('signature', blob, 'signature.png');
+  return formData;
+};